@@ -0,0 +1,66 @@
+package net.binder.api.auth.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import net.binder.api.auth.dto.TokenClaims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// JwtFilter 한 번의 요청에서 토큰을 해석하는 비용 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "binder-benchmark-secret-key-which-is-long-enough-for-hs256";
+
+    private SecretKey secretKey;
+
+    private JwtUtil jwtUtil;
+
+    private JwtUtil cachedJwtUtil;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 0);
+        cachedJwtUtil = new JwtUtil(SECRET, 3_600_000L, 1_000);
+        token = jwtUtil.generateToken("dusgh7031@gmail.com", "ROLE_USER");
+    }
+
+    // 기존 방식: 사용자 이름과 권한을 꺼낼 때마다 파서를 만들고 서명을 검증한다.
+    @Benchmark
+    public void parseTwiceWithNewParser(Blackhole blackhole) {
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build()
+                .parseSignedClaims(token).getPayload().get("username", String.class));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build()
+                .parseSignedClaims(token).getPayload().get("role", String.class));
+    }
+
+    @Benchmark
+    public TokenClaims parseOnce() {
+        return jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public TokenClaims parseWithCache() {
+        return cachedJwtUtil.parse(token);
+    }
+}
@@ -0,0 +1,40 @@
+package net.binder.api.bin.util;
+
+import java.util.concurrent.TimeUnit;
+import org.locationtech.jts.geom.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoBenchmark {
+
+    private double latitude = 37.4956241314633;
+
+    private double longitude = 127.027722755059;
+
+    private double targetLatitude = 37.49402562647;
+
+    private double targetLongitude = 127.028224355185;
+
+    @Benchmark
+    public double calculateDistance() {
+        return DistanceCalculator.calculateDistance(latitude, longitude, targetLatitude, targetLongitude);
+    }
+
+    @Benchmark
+    public Point getPoint() {
+        return PointUtil.getPoint(longitude, latitude);
+    }
+}
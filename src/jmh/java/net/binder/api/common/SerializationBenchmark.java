@@ -0,0 +1,76 @@
+package net.binder.api.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.comment.dto.CommentDetail;
+import net.binder.api.comment.dto.CommentInfoForMember;
+import net.binder.api.search.dto.SearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 검색 결과와 댓글 목록 응답의 JSON 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+
+    private List<SearchResult> searchResults;
+
+    private List<CommentDetail> commentDetails;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        searchResults = new ArrayList<>();
+        commentDetails = new ArrayList<>();
+        for (long i = 0; i < PAGE_SIZE; i++) {
+            searchResults.add(new SearchResult(i, "서울 서초구 강남대로 373", "던킨도너츠 앞", BinType.RECYCLE,
+                    127.028010119934, 37.495982934664, i % 2 == 0, 10.0 * i));
+            commentDetails.add(CommentDetail.builder()
+                    .commentId(i)
+                    .binId(1L)
+                    .writer("작성자" + i)
+                    .content("쓰레기통이 깨끗하게 관리되고 있어요.")
+                    .likeCount(i)
+                    .dislikeCount(0L)
+                    .createdAt(LocalDateTime.now())
+                    .commentInfoForMember(new CommentInfoForMember(i == 0, false, false))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public String serializeSearchResults() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(searchResults);
+    }
+
+    @Benchmark
+    public String serializeCommentDetails() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(commentDetails);
+    }
+}
@@ -0,0 +1,97 @@
+package net.binder.api.common.binsetup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.common.binsetup.dto.BinInsertResult;
+import net.binder.api.common.binsetup.repository.BinBatchInsertRepository;
+import net.binder.api.common.kakaomap.dto.ProcessedBinData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+// 공공데이터 초기 적재에서 여러 행 INSERT 한 문에 담는 행 수에 따른 저장 시간. 실제 MySQL이 필요하다.
+// BINDER_JMH_DB_URL=jdbc:mysql://localhost:3306/binder BINDER_JMH_DB_USERNAME=root BINDER_JMH_DB_PASSWORD=...
+// ./gradlew jmh -PjmhIncludes=BinBatchInsertBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class BinBatchInsertBenchmark {
+
+    private static final String ADDRESS_PREFIX = "서울 서초구 대량적재벤치로 ";
+
+    @Param({"100000"})
+    private int rowCount;
+
+    @Param({"1", "100", "1000"})
+    private int rowsPerStatement;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private BinBatchInsertRepository binBatchInsertRepository;
+
+    private List<ProcessedBinData> bins;
+
+    private int invocation = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                getEnv("BINDER_JMH_DB_URL", "jdbc:mysql://localhost:3306/binder"),
+                getEnv("BINDER_JMH_DB_USERNAME", "root"),
+                getEnv("BINDER_JMH_DB_PASSWORD", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        binBatchInsertRepository = new BinBatchInsertRepository(jdbcTemplate, rowsPerStatement);
+        deleteBenchmarkBins();
+    }
+
+    // 매 측정마다 주소를 바꿔 이전 측정에서 넣은 행과 중복으로 무시되지 않게 한다.
+    @Setup(Level.Invocation)
+    public void createBins() {
+        int current = invocation++;
+        bins = IntStream.range(0, rowCount)
+                .mapToObj(i -> ProcessedBinData.builder()
+                        .title("대량 적재 벤치마크 " + i)
+                        .address(ADDRESS_PREFIX + current + "-" + i)
+                        .type(i % 2 == 0 ? BinType.GENERAL : BinType.RECYCLE)
+                        .longitude(127.0 + i * 0.000001)
+                        .latitude(37.5 + current * 0.01 + i * 0.0000001)
+                        .build())
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        deleteBenchmarkBins();
+    }
+
+    @Benchmark
+    public BinInsertResult batchInsertInitialBins() {
+        return binBatchInsertRepository.batchInsertInitialBins(bins);
+    }
+
+    private void deleteBenchmarkBins() {
+        jdbcTemplate.update("DELETE FROM bin WHERE address LIKE ?", ADDRESS_PREFIX + "%");
+    }
+
+    private static String getEnv(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,139 @@
+package net.binder.api.common.binsetup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import net.binder.api.common.binsetup.util.CsvBinDataReader;
+import net.binder.api.common.binsetup.util.ExcelDataExtractor;
+import net.binder.api.common.binsetup.util.XlsxBinDataReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// 대용량 공공데이터 파일을 워크북 전체 로딩(DOM)과 스트리밍(SAX, CSV)으로 읽을 때의 소요 시간과 최대 힙 사용량
+// ./gradlew jmh -PjmhIncludes=BinDataReaderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BinDataReaderBenchmark {
+
+    private static final int HEADER_ROWS = 4;
+
+    @Param({"500000"})
+    private int rowCount;
+
+    private Path xlsxPath;
+
+    private Path csvPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        xlsxPath = Files.createTempFile("bins", ".xlsx");
+        csvPath = Files.createTempFile("bins", ".csv");
+
+        // 생성 단계에서 메모리가 부족하지 않도록 SXSSF로 행을 흘려 쓴다.
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(1000);
+             OutputStream outputStream = Files.newOutputStream(xlsxPath);
+             BufferedWriter writer = Files.newBufferedWriter(csvPath, StandardCharsets.UTF_8)) {
+            Sheet sheet = workbook.createSheet();
+            for (int i = 0; i < HEADER_ROWS; i++) {
+                sheet.createRow(i).createCell(0).setCellValue("헤더");
+            }
+            writer.write("연번,자치구명,도로명주소,세부위치,설치장소유형,수거쓰레기종류");
+            writer.newLine();
+
+            for (int i = 0; i < rowCount; i++) {
+                String type = i % 2 == 0 ? "일반쓰레기" : "재활용쓰레기";
+                Row row = sheet.createRow(HEADER_ROWS + i);
+                row.createCell(0).setCellValue(i);
+                row.createCell(1).setCellValue("서초구");
+                row.createCell(2).setCellValue("강남대로 " + i);
+                row.createCell(3).setCellValue("버스정류장 앞 ");
+                row.createCell(4).setCellValue("가로변");
+                row.createCell(5).setCellValue(type);
+
+                writer.write(i + ",서초구,강남대로 " + i + ",\"버스정류장 앞, 1번 출구 \",가로변," + type);
+                writer.newLine();
+            }
+            workbook.write(outputStream);
+            workbook.dispose();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(xlsxPath);
+        Files.deleteIfExists(csvPath);
+    }
+
+    // 호출마다 힙 풀의 최대 사용량을 초기화하고, 끝난 시점의 값을 보조 지표(peakHeapMb)로 남긴다.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+
+        public double peakHeapMb;
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            System.gc();
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    pool.resetPeakUsage();
+                }
+            }
+        }
+
+        void record() {
+            long peak = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    peak += pool.getPeakUsage().getUsed();
+                }
+            }
+            peakHeapMb = peak / (1024.0 * 1024.0);
+        }
+    }
+
+    @Benchmark
+    public void domWorkbook(HeapUsage heapUsage, Blackhole blackhole) {
+        blackhole.consume(ExcelDataExtractor.createInitialData(xlsxPath.toString()));
+        heapUsage.record();
+    }
+
+    @Benchmark
+    public void saxXlsx(HeapUsage heapUsage, Blackhole blackhole) {
+        new XlsxBinDataReader().read(xlsxPath, blackhole::consume);
+        heapUsage.record();
+    }
+
+    @Benchmark
+    public void csv(HeapUsage heapUsage, Blackhole blackhole) {
+        new CsvBinDataReader(StandardCharsets.UTF_8).read(csvPath, blackhole::consume);
+        heapUsage.record();
+    }
+}
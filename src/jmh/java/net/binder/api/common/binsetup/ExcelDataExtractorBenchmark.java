@@ -0,0 +1,76 @@
+package net.binder.api.common.binsetup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.binder.api.common.binsetup.dto.PublicBinData;
+import net.binder.api.common.binsetup.util.ExcelDataExtractor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 공공데이터 엑셀 파일과 같은 형식의 워크북을 만들어 읽는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExcelDataExtractorBenchmark {
+
+    private static final int HEADER_ROWS = 4;
+
+    @Param({"1000", "10000"})
+    private int rowCount;
+
+    private Path path;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        path = Files.createTempFile("bins", ".xlsx");
+
+        try (Workbook workbook = new XSSFWorkbook(); OutputStream outputStream = Files.newOutputStream(path)) {
+            Sheet sheet = workbook.createSheet();
+            for (int i = 0; i < HEADER_ROWS; i++) {
+                sheet.createRow(i).createCell(0).setCellValue("헤더");
+            }
+            for (int i = 0; i < rowCount; i++) {
+                Row row = sheet.createRow(HEADER_ROWS + i);
+                row.createCell(0).setCellValue(i);
+                row.createCell(1).setCellValue("서초구");
+                row.createCell(2).setCellValue("강남대로 " + i);
+                row.createCell(3).setCellValue("버스정류장 앞 ");
+                row.createCell(4).setCellValue("가로변");
+                row.createCell(5).setCellValue(i % 2 == 0 ? "일반쓰레기" : "재활용쓰레기");
+            }
+            workbook.write(outputStream);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public List<PublicBinData> createInitialData() {
+        return ExcelDataExtractor.createInitialData(path.toString());
+    }
+}
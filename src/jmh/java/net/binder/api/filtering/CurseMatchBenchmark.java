@@ -0,0 +1,58 @@
+package net.binder.api.filtering;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.binder.api.filtering.util.CurseAutomaton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// CurseQueryRepository.findWordsInSentence 의 sentence LIKE CONCAT('%', word, '%') 를 메모리에서 그대로 수행하는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurseMatchBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int dictionarySize;
+
+    private List<String> words;
+
+    private String sentence;
+
+    private CurseAutomaton automaton;
+
+    @Setup
+    public void setUp() {
+        words = new ArrayList<>();
+        for (int i = 0; i < dictionarySize; i++) {
+            words.add("욕설" + i);
+        }
+        automaton = new CurseAutomaton(words);
+        sentence = "이 쓰레기통은 강남역 2번 출구 바로 앞에 있어서 찾기 쉬워요. 다만 저녁에는 자주 꽉 차 있습니다. 욕설" + (dictionarySize / 2);
+    }
+
+    @Benchmark
+    public List<String> findWordsInSentence() {
+        return words.stream()
+                .filter(sentence::contains)
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> findWordsWithAutomaton() {
+        return automaton.findWords(sentence);
+    }
+}
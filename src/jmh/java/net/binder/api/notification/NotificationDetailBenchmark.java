@@ -0,0 +1,71 @@
+package net.binder.api.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.util.PointUtil;
+import net.binder.api.member.entity.Member;
+import net.binder.api.member.entity.Role;
+import net.binder.api.notification.dto.NotificationDetail;
+import net.binder.api.notification.entity.Notification;
+import net.binder.api.notification.entity.NotificationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 알림 목록 한 페이지를 응답으로 변환하는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationDetailBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private List<Notification> notifications;
+
+    @Setup
+    public void setUp() {
+        Member sender = new Member("sender@gmail.com", "보낸사람", Role.ROLE_USER, null);
+        Member receiver = new Member("receiver@gmail.com", "받는사람", Role.ROLE_USER, null);
+        Bin bin = Bin.builder()
+                .title("강남역2번출구 앞")
+                .address("서울 강남구 강남대로 382")
+                .type(BinType.GENERAL)
+                .point(PointUtil.getPoint(127.027722755059, 37.4956241314633))
+                .likeCount(0L)
+                .dislikeCount(0L)
+                .bookmarkCount(0L)
+                .build();
+
+        notifications = new ArrayList<>();
+        NotificationType[] types = NotificationType.values();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            notifications.add(Notification.builder()
+                    .sender(sender)
+                    .receiver(receiver)
+                    .bin(bin)
+                    .type(types[i % types.length])
+                    .additionalInfo("알림 " + i)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<NotificationDetail> from() {
+        return notifications.stream()
+                .map(NotificationDetail::from)
+                .toList();
+    }
+}
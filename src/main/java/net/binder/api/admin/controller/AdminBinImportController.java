@@ -0,0 +1,33 @@
+package net.binder.api.admin.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.admin.dto.BinImportProgress;
+import net.binder.api.admin.service.AdminBinImportService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/bins/imports")
+@Tag(name = "관리자용 공공 쓰레기통 데이터 적재 관리")
+public class AdminBinImportController {
+
+    private final AdminBinImportService adminBinImportService;
+
+    @Operation(summary = "최근 적재 작업 진행 상황 목록")
+    @GetMapping
+    public List<BinImportProgress> getBinImportProgresses() {
+        return adminBinImportService.getBinImportProgresses();
+    }
+
+    @Operation(summary = "적재 작업 진행 상황 (읽은 행, 주소 검색 성공/실패, 추가된 행 수)")
+    @GetMapping("/{id}")
+    public BinImportProgress getBinImportProgress(@PathVariable Long id) {
+        return adminBinImportService.getBinImportProgress(id);
+    }
+}
@@ -0,0 +1,65 @@
+package net.binder.api.admin.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.common.binsetup.entity.BinImportJob;
+import net.binder.api.common.binsetup.entity.BinImportMode;
+import net.binder.api.common.binsetup.entity.BinImportStatus;
+
+@Getter
+@RequiredArgsConstructor
+@Builder
+public class BinImportProgress {
+
+    private final Long jobId;
+
+    private final String sourcePath;
+
+    private final BinImportMode mode;
+
+    private final BinImportStatus status;
+
+    private final Long rowsRead;
+
+    private final Long geocodedCount;
+
+    private final Long failedCount;
+
+    private final Long insertedCount;
+
+    private final Long duplicateCount;
+
+    private final Long unchangedCount;
+
+    private final Long removedCount;
+
+    private final Long lastCommittedRow;
+
+    private final String failureMessage;
+
+    private final LocalDateTime startedAt;
+
+    private final LocalDateTime updatedAt;
+
+    public static BinImportProgress from(BinImportJob binImportJob) {
+        return BinImportProgress.builder()
+                .jobId(binImportJob.getId())
+                .sourcePath(binImportJob.getSourcePath())
+                .mode(binImportJob.getMode())
+                .status(binImportJob.getStatus())
+                .rowsRead(binImportJob.getRowsRead())
+                .geocodedCount(binImportJob.getGeocodedCount())
+                .failedCount(binImportJob.getFailedCount())
+                .insertedCount(binImportJob.getInsertedCount())
+                .duplicateCount(binImportJob.getDuplicateCount())
+                .unchangedCount(binImportJob.getUnchangedCount())
+                .removedCount(binImportJob.getRemovedCount())
+                .lastCommittedRow(binImportJob.getLastCommittedRow())
+                .failureMessage(binImportJob.getFailureMessage())
+                .startedAt(binImportJob.getCreatedAt())
+                .updatedAt(binImportJob.getModifiedAt())
+                .build();
+    }
+}
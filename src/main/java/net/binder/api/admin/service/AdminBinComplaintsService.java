@@ -8,6 +8,7 @@ import net.binder.api.admin.dto.TypeCount;
 import net.binder.api.admin.repository.AdminBinComplaintQueryRepository;
 import net.binder.api.bin.entity.Bin;
 import net.binder.api.bin.entity.BinRegistration;
+import net.binder.api.bin.service.BinDetailCache;
 import net.binder.api.common.exception.BadRequestException;
 import net.binder.api.complaint.entity.Complaint;
 import net.binder.api.complaint.entity.ComplaintStatus;
@@ -16,6 +17,8 @@ import net.binder.api.member.entity.Member;
 import net.binder.api.member.service.MemberService;
 import net.binder.api.notification.entity.NotificationType;
 import net.binder.api.notification.service.NotificationService;
+import net.binder.api.search.service.BinSpatialIndex;
+import net.binder.api.search.service.BinTileCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +37,12 @@ public class AdminBinComplaintsService {
 
     private final NotificationService notificationService;
 
+    private final BinSpatialIndex binSpatialIndex;
+
+    private final BinTileCache binTileCache;
+
+    private final BinDetailCache binDetailCache;
+
     @Transactional(readOnly = true)
     public List<BinComplaintDetail> getBinComplaintDetails(ComplaintFilter filter) {
         return adminBinComplaintRepository.findAll(filter, MIN_EXPOSED_COMPLAINT_COUNT);
@@ -59,6 +68,9 @@ public class AdminBinComplaintsService {
         validateComplaintStatus(complaint);
         // 승인시 Bin을 softDelete
         complaint.approve();
+        binSpatialIndex.delete(complaint.getBin());
+        binTileCache.evict(complaint.getBin());
+        binDetailCache.evict(complaint.getBin().getId());
 
         // 신고자 목록
         List<Member> complaintCreators = adminBinComplaintRepository.findMembers(complaint);
@@ -0,0 +1,27 @@
+package net.binder.api.admin.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.admin.dto.BinImportProgress;
+import net.binder.api.common.binsetup.service.BinImportJobManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class AdminBinImportService {
+
+    private final BinImportJobManager binImportJobManager;
+
+    public BinImportProgress getBinImportProgress(Long jobId) {
+        return BinImportProgress.from(binImportJobManager.getBinImportJob(jobId));
+    }
+
+    public List<BinImportProgress> getBinImportProgresses() {
+        return binImportJobManager.getRecentBinImportJobs()
+                .stream()
+                .map(BinImportProgress::from)
+                .toList();
+    }
+}
@@ -5,6 +5,7 @@ import net.binder.api.admin.dto.AdminBinUpdateRequest;
 import net.binder.api.bin.entity.Bin;
 import net.binder.api.bin.entity.BinModification;
 import net.binder.api.bin.entity.BinRegistration;
+import net.binder.api.bin.service.BinDetailCache;
 import net.binder.api.bin.service.BinManager;
 import net.binder.api.bin.service.BinModificationManager;
 import net.binder.api.bin.service.BinModificationReader;
@@ -16,6 +17,8 @@ import net.binder.api.member.entity.Member;
 import net.binder.api.member.service.MemberService;
 import net.binder.api.notification.entity.NotificationType;
 import net.binder.api.notification.service.NotificationService;
+import net.binder.api.search.service.BinSpatialIndex;
+import net.binder.api.search.service.BinTileCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +43,12 @@ public class AdminBinManagementService {
 
     private final NotificationService notificationService;
 
+    private final BinSpatialIndex binSpatialIndex;
+
+    private final BinTileCache binTileCache;
+
+    private final BinDetailCache binDetailCache;
+
     public void updateBin(String email, Long binId, AdminBinUpdateRequest request) {
         Member admin = memberService.findByEmail(email);
 
@@ -67,6 +76,10 @@ public class AdminBinManagementService {
             throw new BadRequestException("이미 삭제 처리된 쓰레기통입니다.");
         }
 
+        binSpatialIndex.delete(bin);
+        binTileCache.evict(bin);
+        binDetailCache.evict(bin.getId());
+
         notificationService.sendNotification(admin, getReceiver(bin), bin, NotificationType.BIN_DELETED, deleteReason);
     }
 
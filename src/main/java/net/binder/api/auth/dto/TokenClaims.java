@@ -0,0 +1,19 @@
+package net.binder.api.auth.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TokenClaims {
+
+    private final String username;
+
+    private final String role;
+
+    private final long expiresAt;
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -12,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.binder.api.auth.dto.CustomOAuth2User;
 import net.binder.api.auth.dto.LoginUser;
+import net.binder.api.auth.dto.TokenClaims;
 import net.binder.api.auth.util.CookieProvider;
 import net.binder.api.auth.util.JwtUtil;
 import net.binder.api.common.util.ErrorResponseUtil;
@@ -42,10 +43,9 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         try {
-            String username = jwtUtil.getUsername(token);
-            String role = jwtUtil.getRole(token);
+            TokenClaims tokenClaims = jwtUtil.parse(token);
 
-            Authentication authentication = getAuthentication(username, role);
+            Authentication authentication = getAuthentication(tokenClaims.getUsername(), tokenClaims.getRole());
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
             filterChain.doFilter(request, response);
@@ -8,7 +8,9 @@ import net.binder.api.auth.dto.KakaoResponse;
 import net.binder.api.auth.dto.LoginUser;
 import net.binder.api.auth.dto.NaverResponse;
 import net.binder.api.auth.dto.OAuth2Response;
+import net.binder.api.member.dto.MemberIdentity;
 import net.binder.api.member.entity.Member;
+import net.binder.api.member.service.MemberIdentityCache;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -21,6 +23,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final SocialMemberService socialMemberService;
 
+    private final MemberIdentityCache memberIdentityCache;
+
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         String registrationId = userRequest.getClientRegistration().getRegistrationId();
@@ -42,6 +46,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             member = socialMemberService.register(provider, providerId, email);
         }
 
+        memberIdentityCache.put(MemberIdentity.from(member));
+
         return new CustomOAuth2User(LoginUser.from(member));
     }
 
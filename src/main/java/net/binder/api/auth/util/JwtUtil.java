@@ -1,10 +1,15 @@
 package net.binder.api.auth.util;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.crypto.SecretKey;
+import net.binder.api.auth.dto.TokenClaims;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -19,9 +24,21 @@ public class JwtUtil {
 
     private final Long expiration;
 
-    public JwtUtil(@Value("${spring.jwt.secret}") String secret, @Value("${spring.jwt.expiration}") Long expiration) {
+    private final JwtParser jwtParser;
+
+    // 검증을 마친 토큰을 만료 시각까지 보관한다. 크기가 0이면 사용하지 않는다.
+    private final int cacheSize;
+
+    private final Map<String, TokenClaims> verifiedTokens = new ConcurrentHashMap<>();
+
+    public JwtUtil(@Value("${spring.jwt.secret}") String secret, @Value("${spring.jwt.expiration}") Long expiration,
+                   @Value("${spring.jwt.cache-size:0}") int cacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expiration = expiration;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.cacheSize = cacheSize;
     }
 
     public String generateToken(String username, String role) {
@@ -34,21 +51,41 @@ public class JwtUtil {
                 .compact();
     }
 
+    public TokenClaims parse(String token) {
+        if (cacheSize <= 0) {
+            return verify(token);
+        }
+
+        long now = System.currentTimeMillis();
+        TokenClaims cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedTokens.remove(token, cached);
+        }
+
+        TokenClaims tokenClaims = verify(token);
+        if (verifiedTokens.size() >= cacheSize) {
+            verifiedTokens.clear();
+        }
+        verifiedTokens.put(token, tokenClaims);
+        return tokenClaims;
+    }
+
     public String getUsername(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get(USERNAME_KEY, String.class);
+        return parse(token).getUsername();
     }
 
     public String getRole(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get(ROLE_KEY, String.class);
+        return parse(token).getRole();
+    }
+
+    private TokenClaims verify(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        Date expiresAt = claims.getExpiration();
+
+        return new TokenClaims(claims.get(USERNAME_KEY, String.class), claims.get(ROLE_KEY, String.class),
+                expiresAt == null ? Long.MAX_VALUE : expiresAt.getTime());
     }
 }
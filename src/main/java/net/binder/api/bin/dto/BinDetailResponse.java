@@ -3,8 +3,6 @@ package net.binder.api.bin.dto;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
-import net.binder.api.bin.entity.Bin;
-import net.binder.api.bin.entity.BinDetailProjection;
 import net.binder.api.bin.entity.BinType;
 import net.binder.api.common.dto.BaseResponse;
 
@@ -52,28 +50,7 @@ public class BinDetailResponse extends BaseResponse {
         this.binInfoForMember = binInfoForMember;
     }
 
-    public static BinDetailResponse from(Bin bin, Long complaintCount) {
-        return BinDetailResponse.builder()
-                .id(bin.getId())
-                .createdAt(bin.getCreatedAt())
-                .modifiedAt(bin.getModifiedAt())
-                .title(bin.getTitle())
-                .type(bin.getType())
-                .latitude(bin.getPoint().getY())
-                .longitude(bin.getPoint().getX())
-                .address(bin.getAddress())
-                .likeCount(bin.getLikeCount())
-                .dislikeCount(bin.getDislikeCount())
-                .bookmarkCount(bin.getBookmarkCount())
-                .complaintCount(complaintCount)
-                .imageUrl(bin.getImageUrl())
-                .build();
-    }
-
-    public static BinDetailResponse from(BinDetailProjection bin) {
-        BinInfoForMember binInfoForMember = new BinInfoForMember(bin.getIsOwner(), bin.getIsLiked(),
-                bin.getIsDisliked(), bin.getIsBookmarked());
-
+    public static BinDetailResponse from(BinSnapshot bin, BinInfoForMember binInfoForMember) {
         return BinDetailResponse.builder()
                 .id(bin.getId())
                 .createdAt(bin.getCreatedAt())
@@ -0,0 +1,46 @@
+package net.binder.api.bin.dto;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinType;
+
+// 회원과 무관한 쓰레기통 상세 정보. 여러 요청이 함께 읽으므로 변경할 수 없다.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BinSnapshot {
+
+    private final Long id;
+
+    private final LocalDateTime createdAt;
+
+    private final LocalDateTime modifiedAt;
+
+    private final String title;
+
+    private final BinType type;
+
+    private final Double latitude;
+
+    private final Double longitude;
+
+    private final String address;
+
+    private final Long likeCount;
+
+    private final Long dislikeCount;
+
+    private final Long bookmarkCount;
+
+    private final Long complaintCount;
+
+    private final String imageUrl;
+
+    public static BinSnapshot of(Bin bin, Long complaintCount) {
+        return new BinSnapshot(bin.getId(), bin.getCreatedAt(), bin.getModifiedAt(), bin.getTitle(), bin.getType(),
+                bin.getPoint().getY(), bin.getPoint().getX(), bin.getAddress(), bin.getLikeCount(),
+                bin.getDislikeCount(), bin.getBookmarkCount(), complaintCount, bin.getImageUrl());
+    }
+}
@@ -0,0 +1,45 @@
+package net.binder.api.bin.dto;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.util.BinIdSet;
+
+// 회원이 등록, 좋아요, 싫어요, 북마크한 쓰레기통 id 집합. 쓰레기통 id(long)로 바로 조회한다.
+@RequiredArgsConstructor
+public class MemberBinFlags {
+
+    private static final MemberBinFlags EMPTY = new MemberBinFlags(BinIdSet.of(List.of()),
+            BinIdSet.of(List.of()), BinIdSet.of(List.of()), BinIdSet.of(List.of()));
+
+    private final BinIdSet owned;
+
+    private final BinIdSet liked;
+
+    private final BinIdSet disliked;
+
+    private final BinIdSet bookmarked;
+
+    public static MemberBinFlags empty() {
+        return EMPTY;
+    }
+
+    public boolean isOwner(long binId) {
+        return owned.contains(binId);
+    }
+
+    public boolean isLiked(long binId) {
+        return liked.contains(binId);
+    }
+
+    public boolean isDisliked(long binId) {
+        return disliked.contains(binId);
+    }
+
+    public boolean isBookmarked(long binId) {
+        return bookmarked.contains(binId);
+    }
+
+    public BinInfoForMember get(long binId) {
+        return new BinInfoForMember(isOwner(binId), isLiked(binId), isDisliked(binId), isBookmarked(binId));
+    }
+}
@@ -1,10 +1,25 @@
 package net.binder.api.bin.repository;
 
+import java.util.Collection;
+import java.util.List;
 import net.binder.api.bin.entity.BinRegistration;
 import net.binder.api.bin.entity.BinRegistrationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface BinRegistrationRepository extends JpaRepository<BinRegistration, Long> {
 
     Long countByStatus(BinRegistrationStatus status);
+
+    @Query("""
+            SELECT br.bin.id FROM BinRegistration br
+            where br.member.id = :memberId
+            """)
+    List<Long> findBinIdsByMemberId(Long memberId);
+
+    @Query("""
+            SELECT br.bin.id FROM BinRegistration br
+            where br.member.id = :memberId and br.bin.id in :binIds
+            """)
+    List<Long> findBinIdsByMemberIdAndBinIdIn(Long memberId, Collection<Long> binIds);
 }
@@ -0,0 +1,112 @@
+package net.binder.api.bin.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.dto.BinSnapshot;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.repository.BinRepository;
+import net.binder.api.common.exception.NotFoundException;
+import net.binder.api.common.util.StripedVersion;
+import net.binder.api.complaint.service.ComplaintCountReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 자주 조회되는 쓰레기통 상세 정보를 짧은 시간 동안 모든 회원이 공유한다.
+// 수정, 삭제, 좋아요/북마크/신고 수 변경 시 무효화하며, 놓친 변경은 TTL이 지나면 반영된다.
+@Component
+public class BinDetailCache {
+
+    private static final int MAX_SIZE_OF_BINS = 10_000;
+
+    private final BinRepository binRepository;
+
+    private final ComplaintCountReader complaintCountReader;
+
+    private final boolean enabled;
+
+    private final long ttlMillis;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final StripedVersion versions = new StripedVersion();
+
+    public BinDetailCache(BinRepository binRepository,
+                          ComplaintCountReader complaintCountReader,
+                          @Value("${bin.detail-cache.enabled:false}") boolean enabled,
+                          @Value("${bin.detail-cache.ttl-seconds:5}") long ttlSeconds) {
+        this.binRepository = binRepository;
+        this.complaintCountReader = complaintCountReader;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public BinSnapshot getSnapshot(Long binId) {
+        Entry entry = entries.get(binId);
+        if (entry != null && !entry.isExpired(ttlMillis)) {
+            return entry.getSnapshot();
+        }
+
+        if (entries.size() >= MAX_SIZE_OF_BINS) {
+            entries.clear();
+        }
+
+        long version = versions.get(binId);
+        Bin bin = binRepository.findByIdAndDeletedAtIsNull(binId)
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 쓰레기통입니다."));
+        BinSnapshot snapshot = BinSnapshot.of(bin, complaintCountReader.getComplaintCount(bin));
+
+        Entry loadedEntry = new Entry(snapshot, System.currentTimeMillis());
+        entries.put(binId, loadedEntry);
+
+        // 적재하는 동안 무효화되었다면 방금 넣은 항목은 오래된 것일 수 있으므로 버린다.
+        if (versions.get(binId) != version) {
+            entries.remove(binId, loadedEntry);
+        }
+        return snapshot;
+    }
+
+    // 트랜잭션이 커밋된 이후에 비운다. 트랜잭션 밖에서 호출하면 바로 비운다.
+    public void evict(Long binId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            versions.increment(binId);
+            entries.remove(binId);
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Entry {
+
+        private final BinSnapshot snapshot;
+
+        private final long createdAt;
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - createdAt > ttlMillis;
+        }
+    }
+}
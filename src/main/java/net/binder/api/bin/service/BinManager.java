@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import net.binder.api.bin.entity.Bin;
 import net.binder.api.bin.entity.BinType;
 import net.binder.api.bin.util.PointUtil;
+import net.binder.api.search.service.BinSpatialIndex;
+import net.binder.api.search.service.BinTileCache;
 import org.locationtech.jts.geom.Point;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,10 +15,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class BinManager {
 
+    private final BinSpatialIndex binSpatialIndex;
+
+    private final BinTileCache binTileCache;
+
+    private final BinDetailCache binDetailCache;
+
     public void update(Bin bin, String title, BinType type, String address, Double longitude, Double latitude,
                        String imageUrl) {
         Point newPoint = PointUtil.getPoint(longitude, latitude);
 
         bin.update(title, type, newPoint, address, imageUrl);
+
+        binSpatialIndex.put(bin);
+        binTileCache.evict(bin);
+        binDetailCache.evict(bin.getId());
     }
 }
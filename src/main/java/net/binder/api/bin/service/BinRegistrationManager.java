@@ -3,6 +3,8 @@ package net.binder.api.bin.service;
 import lombok.RequiredArgsConstructor;
 import net.binder.api.bin.entity.BinRegistration;
 import net.binder.api.common.exception.BadRequestException;
+import net.binder.api.search.service.BinSpatialIndex;
+import net.binder.api.search.service.BinTileCache;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,16 +13,29 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class BinRegistrationManager {
 
+    private final BinSpatialIndex binSpatialIndex;
+
+    private final BinTileCache binTileCache;
+
+    private final BinDetailCache binDetailCache;
+
     public void approve(BinRegistration binRegistration) {
         validateRegistrationStatus(binRegistration);
 
         binRegistration.approve();
+
+        binSpatialIndex.put(binRegistration.getBin());
+        binTileCache.evict(binRegistration.getBin());
     }
 
     public void reject(BinRegistration binRegistration) {
         validateRegistrationStatus(binRegistration);
 
         binRegistration.reject();
+
+        binSpatialIndex.delete(binRegistration.getBin());
+        binTileCache.evict(binRegistration.getBin());
+        binDetailCache.evict(binRegistration.getBin().getId());
     }
 
     private void validateRegistrationStatus(BinRegistration binRegistration) {
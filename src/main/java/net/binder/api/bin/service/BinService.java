@@ -1,11 +1,13 @@
 package net.binder.api.bin.service;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import net.binder.api.bin.dto.BinCreateRequest;
 import net.binder.api.bin.dto.BinDetailResponse;
+import net.binder.api.bin.dto.BinSnapshot;
+import net.binder.api.bin.dto.MemberBinFlags;
 import net.binder.api.bin.dto.UserBinUpdateRequest;
 import net.binder.api.bin.entity.Bin;
-import net.binder.api.bin.entity.BinDetailProjection;
 import net.binder.api.bin.entity.BinModification;
 import net.binder.api.bin.entity.BinModificationStatus;
 import net.binder.api.bin.entity.BinRegistration;
@@ -47,6 +49,12 @@ public class BinService {
 
     private final KakaoMapService kakaoMapService;
 
+    private final BinDetailCache binDetailCache;
+
+    private final MemberBinFlagCache memberBinFlagCache;
+
+    private final MemberBinFlagsResolver memberBinFlagsResolver;
+
 
     public void requestBinRegistration(BinCreateRequest binCreateRequest, String email) {
         Member member = memberService.findByEmail(email);
@@ -65,25 +73,39 @@ public class BinService {
         }
 
         binRegistrationRepository.save(binRegistration);
+        memberBinFlagCache.evict(member.getId());
     }
 
     @Transactional(readOnly = true)
     public BinDetailResponse getBinDetail(String email, Long binId) {
+        if (binDetailCache.isEnabled()) {
+            return getCachedBinDetail(email, binId);
+        }
+
         Bin bin = findById(binId);
+        BinSnapshot snapshot = BinSnapshot.of(bin, complaintCountReader.getComplaintCount(bin));
 
         if (email == null) { // 비로그인 유저
-            Long complaintCount = complaintCountReader.getComplaintCount(bin);
-
-            return BinDetailResponse.from(bin, complaintCount);
+            return BinDetailResponse.from(snapshot, null);
         }
         // 로그인 유저
-        Member member = memberService.findByEmail(email);
+        Long memberId = memberService.findIdByEmail(email);
 
-        BinDetailProjection projection = binRepository.findDetailByIdAndMemberIdNative(binId, member.getId()).
-                orElseThrow(() ->
-                        new NotFoundException("존재하지 않는 쓰레기통입니다."));
+        MemberBinFlags flags = memberBinFlagsResolver.resolve(memberId, List.of(binId));
+
+        return BinDetailResponse.from(snapshot, flags.get(binId));
+    }
+
+    // 공유 스냅샷과 회원별 id 집합으로 응답을 만든다. 둘 다 적재되어 있으면 조인 없이 응답한다.
+    private BinDetailResponse getCachedBinDetail(String email, Long binId) {
+        BinSnapshot snapshot = binDetailCache.getSnapshot(binId);
+
+        if (email == null) { // 비로그인 유저
+            return BinDetailResponse.from(snapshot, null);
+        }
+        Long memberId = memberService.findIdByEmail(email);
 
-        return BinDetailResponse.from(projection);
+        return BinDetailResponse.from(snapshot, memberBinFlagCache.getFlags(memberId, binId));
     }
 
     @Transactional(readOnly = true)
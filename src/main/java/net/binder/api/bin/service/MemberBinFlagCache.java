@@ -0,0 +1,121 @@
+package net.binder.api.bin.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.dto.BinInfoForMember;
+import net.binder.api.bin.dto.MemberBinFlags;
+import net.binder.api.bin.repository.BinRegistrationRepository;
+import net.binder.api.bin.util.BinIdSet;
+import net.binder.api.bookmark.repository.BookmarkRepository;
+import net.binder.api.common.util.StripedVersion;
+import net.binder.api.likeanddislike.repository.MemberDislikeBinRepository;
+import net.binder.api.likeanddislike.repository.MemberLikeBinRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 회원이 등록, 좋아요, 싫어요, 북마크한 쓰레기통 id를 회원별로 적재해 두고 상세 조회 시 조인 없이 확인한다.
+// 회원의 반응이나 북마크, 등록이 바뀌면 해당 회원의 항목을 비우고 다음 조회 때 다시 적재한다.
+@Component
+public class MemberBinFlagCache {
+
+    private static final int MAX_SIZE_OF_MEMBERS = 10_000;
+
+    private final BinRegistrationRepository binRegistrationRepository;
+
+    private final MemberLikeBinRepository memberLikeBinRepository;
+
+    private final MemberDislikeBinRepository memberDislikeBinRepository;
+
+    private final BookmarkRepository bookmarkRepository;
+
+    private final boolean enabled;
+
+    private final long ttlMillis;
+
+    private final Map<Long, Entry> entriesByMemberId = new ConcurrentHashMap<>();
+
+    private final StripedVersion versions = new StripedVersion();
+
+    public MemberBinFlagCache(BinRegistrationRepository binRegistrationRepository,
+                              MemberLikeBinRepository memberLikeBinRepository,
+                              MemberDislikeBinRepository memberDislikeBinRepository,
+                              BookmarkRepository bookmarkRepository,
+                              @Value("${bin.detail-cache.enabled:false}") boolean enabled,
+                              @Value("${bin.detail-cache.member-flags-ttl-seconds:600}") long ttlSeconds) {
+        this.binRegistrationRepository = binRegistrationRepository;
+        this.memberLikeBinRepository = memberLikeBinRepository;
+        this.memberDislikeBinRepository = memberDislikeBinRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public BinInfoForMember getFlags(Long memberId, Long binId) {
+        return getMemberBinFlags(memberId).get(binId);
+    }
+
+    // 트랜잭션이 커밋된 이후에 비운다. 버전을 먼저 올려, 커밋 전 데이터로 적재 중이던 요청이 오래된 항목을 남기지 않게 한다.
+    public void evict(Long memberId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            versions.increment(memberId);
+            entriesByMemberId.remove(memberId);
+        });
+    }
+
+    private MemberBinFlags getMemberBinFlags(Long memberId) {
+        Entry entry = entriesByMemberId.get(memberId);
+        if (entry != null && !entry.isExpired(ttlMillis)) {
+            return entry.flags;
+        }
+
+        if (entriesByMemberId.size() >= MAX_SIZE_OF_MEMBERS) {
+            entriesByMemberId.clear();
+        }
+
+        long version = versions.get(memberId);
+        MemberBinFlags loaded = new MemberBinFlags(
+                BinIdSet.of(binRegistrationRepository.findBinIdsByMemberId(memberId)),
+                BinIdSet.of(memberLikeBinRepository.findBinIdsByMemberId(memberId)),
+                BinIdSet.of(memberDislikeBinRepository.findBinIdsByMemberId(memberId)),
+                BinIdSet.of(bookmarkRepository.findBinIdsByMemberId(memberId)));
+        Entry loadedEntry = new Entry(loaded, System.currentTimeMillis());
+        entriesByMemberId.put(memberId, loadedEntry);
+
+        // 적재하는 동안 반응이나 북마크가 바뀌었다면 방금 넣은 항목은 오래된 것일 수 있으므로 버린다.
+        if (versions.get(memberId) != version) {
+            entriesByMemberId.remove(memberId, loadedEntry);
+        }
+        return loaded;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+
+        private final MemberBinFlags flags;
+
+        private final long createdAt;
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - createdAt > ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package net.binder.api.bin.service;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.dto.MemberBinFlags;
+import net.binder.api.bin.repository.BinRegistrationRepository;
+import net.binder.api.bin.util.BinIdSet;
+import net.binder.api.bookmark.repository.BookmarkRepository;
+import net.binder.api.likeanddislike.repository.MemberDislikeBinRepository;
+import net.binder.api.likeanddislike.repository.MemberLikeBinRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 여러 쓰레기통에 대한 회원의 등록/좋아요/싫어요/북마크 여부를 쓰레기통 수와 관계없이 네 번의 IN 쿼리로 조회한다.
+// 상세 조회, 검색 결과, 북마크 목록처럼 쓰레기통 목록을 다루는 곳에서 N+1 없이 사용할 수 있다.
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberBinFlagsResolver {
+
+    private final BinRegistrationRepository binRegistrationRepository;
+
+    private final MemberLikeBinRepository memberLikeBinRepository;
+
+    private final MemberDislikeBinRepository memberDislikeBinRepository;
+
+    private final BookmarkRepository bookmarkRepository;
+
+    public MemberBinFlags resolve(Long memberId, Collection<Long> binIds) {
+        if (memberId == null || binIds.isEmpty()) {
+            return MemberBinFlags.empty();
+        }
+
+        return new MemberBinFlags(
+                BinIdSet.of(binRegistrationRepository.findBinIdsByMemberIdAndBinIdIn(memberId, binIds)),
+                BinIdSet.of(memberLikeBinRepository.findBinIdsByMemberIdAndBinIdIn(memberId, binIds)),
+                BinIdSet.of(memberDislikeBinRepository.findBinIdsByMemberIdAndBinIdIn(memberId, binIds)),
+                BinIdSet.of(bookmarkRepository.findBinIdsByMemberIdAndBinIdIn(memberId, binIds)));
+    }
+}
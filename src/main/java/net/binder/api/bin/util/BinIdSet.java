@@ -0,0 +1,51 @@
+package net.binder.api.bin.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// 정렬된 long 배열. 변경 시 새 배열을 만들어 교체하므로 읽기에는 잠금이 필요 없다.
+public final class BinIdSet {
+
+    private final long[] values;
+
+    private BinIdSet(long[] values) {
+        this.values = values;
+    }
+
+    public static BinIdSet of(Collection<Long> binIds) {
+        long[] values = binIds.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return new BinIdSet(values);
+    }
+
+    public boolean contains(long binId) {
+        return Arrays.binarySearch(values, binId) >= 0;
+    }
+
+    public BinIdSet with(long binId) {
+        int index = Arrays.binarySearch(values, binId);
+        if (index >= 0) {
+            return this;
+        }
+        int insertionPoint = -index - 1;
+        long[] newValues = new long[values.length + 1];
+        System.arraycopy(values, 0, newValues, 0, insertionPoint);
+        newValues[insertionPoint] = binId;
+        System.arraycopy(values, insertionPoint, newValues, insertionPoint + 1, values.length - insertionPoint);
+        return new BinIdSet(newValues);
+    }
+
+    public BinIdSet without(long binId) {
+        int index = Arrays.binarySearch(values, binId);
+        if (index < 0) {
+            return this;
+        }
+        long[] newValues = new long[values.length - 1];
+        System.arraycopy(values, 0, newValues, 0, index);
+        System.arraycopy(values, index + 1, newValues, index, values.length - index - 1);
+        return new BinIdSet(newValues);
+    }
+}
@@ -0,0 +1,43 @@
+package net.binder.api.bin.util;
+
+import java.util.Locale;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class BoundingBox {
+
+    private static final double METERS_PER_DEGREE = 111_320;
+
+    private final double minLatitude;
+
+    private final double minLongitude;
+
+    private final double maxLatitude;
+
+    private final double maxLongitude;
+
+    public static BoundingBox around(double latitude, double longitude, double radius) {
+        double latitudeDelta = radius / METERS_PER_DEGREE;
+        double longitudeDelta = radius / (METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude)));
+
+        return new BoundingBox(latitude - latitudeDelta, longitude - longitudeDelta,
+                latitude + latitudeDelta, longitude + longitudeDelta);
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return minLatitude <= latitude && latitude <= maxLatitude
+                && minLongitude <= longitude && longitude <= maxLongitude;
+    }
+
+    // SRID 4326의 축 순서(위도, 경도)를 따르는 WKT
+    public String toWkt() {
+        return String.format(Locale.ROOT, "POLYGON((%.12f %.12f, %.12f %.12f, %.12f %.12f, %.12f %.12f, %.12f %.12f))",
+                minLatitude, minLongitude,
+                maxLatitude, minLongitude,
+                maxLatitude, maxLongitude,
+                minLatitude, maxLongitude,
+                minLatitude, minLongitude);
+    }
+}
@@ -9,10 +9,11 @@ public class DistanceCalculator {
         double latitude1Rad = Math.toRadians(latitude1);
         double latitude2Rad = Math.toRadians(latitude2);
 
-        double centralAngle = Math.acos(
-                Math.sin(latitude1Rad) * Math.sin(latitude2Rad) +
-                        Math.cos(latitude1Rad) * Math.cos(latitude2Rad) * Math.cos(deltaLongitude)
-        );
+        double cosine = Math.sin(latitude1Rad) * Math.sin(latitude2Rad) +
+                Math.cos(latitude1Rad) * Math.cos(latitude2Rad) * Math.cos(deltaLongitude);
+
+        // 같은 좌표일 경우 부동소수점 오차로 1을 넘어 NaN이 되는 것을 방지
+        double centralAngle = Math.acos(Math.min(1.0, cosine));
 
         return EARTH_RADIUS_METERS * centralAngle;
     }
@@ -0,0 +1,97 @@
+package net.binder.api.bin.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public class GeoHash {
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLatitude = -90, maxLatitude = 90;
+        double minLongitude = -180, maxLongitude = 180;
+
+        StringBuilder geoHash = new StringBuilder(precision);
+        boolean isLongitude = true;
+        int bit = 0;
+        int index = 0;
+
+        while (geoHash.length() < precision) {
+            if (isLongitude) {
+                double mid = (minLongitude + maxLongitude) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLongitude = mid;
+                } else {
+                    index = index << 1;
+                    maxLongitude = mid;
+                }
+            } else {
+                double mid = (minLatitude + maxLatitude) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLatitude = mid;
+                } else {
+                    index = index << 1;
+                    maxLatitude = mid;
+                }
+            }
+            isLongitude = !isLongitude;
+
+            if (++bit == 5) {
+                geoHash.append(BASE32.charAt(index));
+                bit = 0;
+                index = 0;
+            }
+        }
+        return geoHash.toString();
+    }
+
+    public static BoundingBox decode(String geoHash) {
+        double minLatitude = -90, maxLatitude = 90;
+        double minLongitude = -180, maxLongitude = 180;
+        boolean isLongitude = true;
+
+        for (char c : geoHash.toCharArray()) {
+            int index = BASE32.indexOf(c);
+            for (int shift = 4; shift >= 0; shift--) {
+                boolean isUpper = ((index >> shift) & 1) == 1;
+                if (isLongitude) {
+                    double mid = (minLongitude + maxLongitude) / 2;
+                    if (isUpper) {
+                        minLongitude = mid;
+                    } else {
+                        maxLongitude = mid;
+                    }
+                } else {
+                    double mid = (minLatitude + maxLatitude) / 2;
+                    if (isUpper) {
+                        minLatitude = mid;
+                    } else {
+                        maxLatitude = mid;
+                    }
+                }
+                isLongitude = !isLongitude;
+            }
+        }
+        return new BoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+
+    // 자신을 포함한 주변 3x3 셀
+    public static Set<String> withNeighbors(String geoHash) {
+        BoundingBox cell = decode(geoHash);
+        double height = cell.getMaxLatitude() - cell.getMinLatitude();
+        double width = cell.getMaxLongitude() - cell.getMinLongitude();
+        double centerLatitude = (cell.getMinLatitude() + cell.getMaxLatitude()) / 2;
+        double centerLongitude = (cell.getMinLongitude() + cell.getMaxLongitude()) / 2;
+
+        Set<String> geoHashes = new LinkedHashSet<>();
+        for (int row = -1; row <= 1; row++) {
+            for (int column = -1; column <= 1; column++) {
+                geoHashes.add(encode(centerLatitude + row * height, centerLongitude + column * width,
+                        geoHash.length()));
+            }
+        }
+        return geoHashes;
+    }
+}
@@ -0,0 +1,30 @@
+package net.binder.api.bin.util;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanTemplate;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberTemplate;
+
+public class SpatialExpressions {
+
+    // POINT()는 (x, y) = (경도, 위도) 순서로 받는다. PointUtil, BinBatchInsertRepository와 같은 순서다.
+    // 좌표는 문자열로 만들지 않고 파라미터로 바인딩한다.
+    private static final String POINT_TEMPLATE = "ST_SRID(POINT({1}, {2}), 4326)";
+
+    public static NumberTemplate<Double> distanceSphere(Expression<?> point, double latitude, double longitude) {
+        return Expressions.numberTemplate(Double.class, "ST_Distance_Sphere({0}, " + POINT_TEMPLATE + ")",
+                point, longitude, latitude);
+    }
+
+    // 타원체 기준 거리. 북마크 목록의 커서(lastDistance)가 이 값을 기준으로 하므로 그대로 유지한다.
+    public static NumberTemplate<Double> distance(Expression<?> point, double latitude, double longitude) {
+        return Expressions.numberTemplate(Double.class, "ST_Distance({0}, " + POINT_TEMPLATE + ")",
+                point, longitude, latitude);
+    }
+
+    // idx_bin_point 인덱스를 탈 수 있도록 MBR 비교로 후보를 먼저 거른다.
+    public static BooleanTemplate withinBoundingBox(Expression<?> point, BoundingBox boundingBox) {
+        return Expressions.booleanTemplate("MBRContains(ST_GeomFromText({0}, 4326), {1})",
+                boundingBox.toWkt(), point);
+    }
+}
@@ -5,7 +5,9 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;import net.binder.api.bookmark.dto.BookmarkResponse;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.util.SpatialExpressions;
+import net.binder.api.bookmark.dto.BookmarkResponse;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -63,9 +65,7 @@ public class BookmarkQueryRepository {
     }
 
     private NumberExpression<Double> calculateDistance(Double latitude, Double longitude) {
-        String point = String.format("POINT(%.12f %.12f)", latitude, longitude);
-        return Expressions.numberTemplate(Double.class,
-                "ST_Distance({0}, ST_GeomFromText({1}, 4326))", bin.point, point);
+        return SpatialExpressions.distance(bin.point, latitude, longitude);
     }
 
     private BooleanExpression createPaginationCondition(Long lastBookmarkId, Double lastDistance, NumberExpression<Double> distance) {
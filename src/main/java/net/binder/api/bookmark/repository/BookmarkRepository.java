@@ -1,5 +1,7 @@
 package net.binder.api.bookmark.repository;
 
+import java.util.Collection;
+import java.util.List;
 import net.binder.api.bookmark.entity.Bookmark;
 import net.binder.api.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,4 +20,16 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     void deleteByMember_EmailAndBin_Id(String email, Long binId);
 
     boolean existsByMember_EmailAndBin_Id(String email, Long binId);
+
+    @Query("""
+            SELECT b.bin.id FROM Bookmark b
+            where b.member.id = :memberId
+            """)
+    List<Long> findBinIdsByMemberId(Long memberId);
+
+    @Query("""
+            SELECT b.bin.id FROM Bookmark b
+            where b.member.id = :memberId and b.bin.id in :binIds
+            """)
+    List<Long> findBinIdsByMemberIdAndBinIdIn(Long memberId, Collection<Long> binIds);
 }
@@ -2,7 +2,9 @@ package net.binder.api.bookmark.service;
 
 import lombok.RequiredArgsConstructor;
 import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.service.BinDetailCache;
 import net.binder.api.bin.service.BinService;
+import net.binder.api.bin.service.MemberBinFlagCache;
 import net.binder.api.bookmark.dto.BookmarkResponse;
 import net.binder.api.bookmark.entity.Bookmark;
 import net.binder.api.bookmark.repository.BookmarkQueryRepository;
@@ -33,6 +35,15 @@ public class BookmarkService {
     @Autowired
     private BookmarkQueryRepository bookmarkQueryRepository;
 
+    @Autowired
+    private MemberBookmarkCache memberBookmarkCache;
+
+    @Autowired
+    private BinDetailCache binDetailCache;
+
+    @Autowired
+    private MemberBinFlagCache memberBinFlagCache;
+
     public Bookmark createBookMark(String email, Long binId){
        if(bookmarkRepository.existsByMember_EmailAndBin_Id(email, binId)){
             throw new BadRequestException("이미 북마크를 한 쓰레기통입니다.");
@@ -46,6 +57,9 @@ public class BookmarkService {
                 .build();
         Bookmark save = bookmarkRepository.save(bookmark);
         bin.increaseBookmark();
+        memberBookmarkCache.add(member.getId(), binId);
+        memberBinFlagCache.evict(member.getId());
+        binDetailCache.evict(binId);
         return save;
     }
 
@@ -56,6 +70,10 @@ public class BookmarkService {
         bookmarkRepository.deleteByMember_EmailAndBin_Id(email, binId);
         Bin bin = binService.findById(binId);
         bin.decreaseBookmark();
+        Long memberId = memberService.findIdByEmail(email);
+        memberBookmarkCache.remove(memberId, binId);
+        memberBinFlagCache.evict(memberId);
+        binDetailCache.evict(binId);
     }
 
     public List<BookmarkResponse> getAllBookmarks(
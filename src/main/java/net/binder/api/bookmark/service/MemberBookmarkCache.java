@@ -0,0 +1,132 @@
+package net.binder.api.bookmark.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.util.BinIdSet;
+import net.binder.api.bookmark.repository.BookmarkRepository;
+import net.binder.api.common.util.StripedVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class MemberBookmarkCache {
+
+    private static final int MAX_SIZE_OF_MEMBERS = 10_000;
+
+    private final BookmarkRepository bookmarkRepository;
+
+    private final boolean enabled;
+
+    private final long ttlMillis;
+
+    private final Map<Long, Entry> entriesByMemberId = new ConcurrentHashMap<>();
+
+    private final StripedVersion versions = new StripedVersion();
+
+    public MemberBookmarkCache(BookmarkRepository bookmarkRepository,
+                               @Value("${bookmark.cache.enabled:false}") boolean enabled,
+                               @Value("${bookmark.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // 검색 결과 중 회원이 북마크한 쓰레기통 id만 골라낸다.
+    public Set<Long> findBookmarkedBinIds(Long memberId, Collection<Long> binIds) {
+        if (binIds.isEmpty()) {
+            return Set.of();
+        }
+        if (!enabled) {
+            return new HashSet<>(bookmarkRepository.findBinIdsByMemberIdAndBinIdIn(memberId, binIds));
+        }
+
+        BinIdSet bookmarkedBinIds = getBinIds(memberId);
+
+        Set<Long> result = new HashSet<>();
+        for (Long binId : binIds) {
+            if (bookmarkedBinIds.contains(binId)) {
+                result.add(binId);
+            }
+        }
+        return result;
+    }
+
+    // 북마크 생성, 삭제 시 호출. 트랜잭션이 커밋된 이후에 반영하며, 아직 적재되지 않은 회원은 다음 조회 때 적재한다.
+    // 버전을 먼저 올려, 커밋 전 데이터로 적재 중이던 요청이 오래된 집합을 남기지 않게 한다.
+    public void add(Long memberId, Long binId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            versions.increment(memberId);
+            entriesByMemberId.computeIfPresent(memberId, (key, entry) -> entry.replace(entry.binIds.with(binId)));
+        });
+    }
+
+    public void remove(Long memberId, Long binId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            versions.increment(memberId);
+            entriesByMemberId.computeIfPresent(memberId, (key, entry) -> entry.replace(entry.binIds.without(binId)));
+        });
+    }
+
+    private BinIdSet getBinIds(Long memberId) {
+        Entry entry = entriesByMemberId.get(memberId);
+        if (entry != null && !entry.isExpired(ttlMillis)) {
+            return entry.binIds;
+        }
+
+        if (entriesByMemberId.size() >= MAX_SIZE_OF_MEMBERS) {
+            entriesByMemberId.clear();
+        }
+
+        long version = versions.get(memberId);
+        Entry loaded = new Entry(BinIdSet.of(bookmarkRepository.findBinIdsByMemberId(memberId)),
+                System.currentTimeMillis());
+        entriesByMemberId.put(memberId, loaded);
+
+        // 적재하는 동안 북마크가 바뀌었다면 방금 넣은 집합은 오래된 것일 수 있으므로 버린다.
+        if (versions.get(memberId) != version) {
+            entriesByMemberId.remove(memberId, loaded);
+        }
+        return loaded.binIds;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+
+        private final BinIdSet binIds;
+
+        private final long createdAt;
+
+        private Entry replace(BinIdSet binIds) {
+            return new Entry(binIds, createdAt);
+        }
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - createdAt > ttlMillis;
+        }
+    }
+}
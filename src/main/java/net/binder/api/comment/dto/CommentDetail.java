@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.binder.api.comment.entity.Comment;
+import net.binder.api.comment.entity.CommentStatus;
 
 @RequiredArgsConstructor
 @Getter
@@ -25,6 +26,8 @@ public class CommentDetail {
 
     private final LocalDateTime createdAt;
 
+    private final CommentStatus status;
+
     private final CommentInfoForMember commentInfoForMember;
 
     public static CommentDetail createForNoMember(Comment comment) {
@@ -37,6 +40,7 @@ public class CommentDetail {
                 .likeCount(comment.getLikeCount())
                 .dislikeCount(comment.getDislikeCount())
                 .createdAt(comment.getCreatedAt())
+                .status(comment.getStatus())
                 .build();
     }
 
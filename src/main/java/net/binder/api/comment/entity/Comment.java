@@ -1,6 +1,12 @@
 package net.binder.api.comment.entity;
 
+import static net.binder.api.comment.entity.CommentStatus.HIDDEN;
+import static net.binder.api.comment.entity.CommentStatus.PENDING_MODERATION;
+import static net.binder.api.comment.entity.CommentStatus.PUBLISHED;
+
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
 import lombok.AccessLevel;
@@ -11,6 +17,7 @@ import net.binder.api.bin.entity.Bin;
 import net.binder.api.common.entity.BaseEntityWithSoftDelete;
 import net.binder.api.common.exception.BadRequestException;
 import net.binder.api.member.entity.Member;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,6 +38,10 @@ public class Comment extends BaseEntityWithSoftDelete {
 
     private Long dislikeCount;
 
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'PUBLISHED'") // 컬럼 추가 시 기존 댓글은 게시 상태로 채운다.
+    private CommentStatus status;
+
     @Builder
     public Comment(Member member, Bin bin, String content) {
         validateContentLength(content);
@@ -39,6 +50,7 @@ public class Comment extends BaseEntityWithSoftDelete {
         this.content = content;
         this.likeCount = 0L;
         this.dislikeCount = 0L;
+        this.status = PUBLISHED;
     }
 
     public boolean isWriter(String email) {
@@ -50,6 +62,27 @@ public class Comment extends BaseEntityWithSoftDelete {
         this.content = content;
     }
 
+    // AI 검증 결과가 나올 때까지 작성자에게만 노출된다.
+    public void holdForModeration() {
+        this.status = PENDING_MODERATION;
+    }
+
+    public void publish() {
+        this.status = PUBLISHED;
+    }
+
+    public void hide() {
+        this.status = HIDDEN;
+    }
+
+    public boolean isPublished() {
+        return this.status == PUBLISHED;
+    }
+
+    public boolean isPendingModeration() {
+        return this.status == PENDING_MODERATION;
+    }
+
     private void validateContentLength(String content) {
         if (content != null && content.length() > MAX_CONTENT_LENGTH) {
             throw new BadRequestException("댓글 글자 수는 60자 이하여야 합니다.");
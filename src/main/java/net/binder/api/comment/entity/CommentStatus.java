@@ -0,0 +1,5 @@
+package net.binder.api.comment.entity;
+
+public enum CommentStatus {
+    PUBLISHED, PENDING_MODERATION, HIDDEN
+}
@@ -3,11 +3,19 @@ package net.binder.api.comment.repository;
 import net.binder.api.comment.entity.CommentDislike;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface CommentDislikeRepository extends JpaRepository<CommentDislike, Long> {
 
     @Modifying
+    @Query("DELETE FROM CommentDislike cd WHERE cd.comment.id = :commentId AND cd.member.id = :memberId")
     int deleteByCommentIdAndMemberId(Long commentId, Long memberId);
 
-    boolean existsByCommentIdAndMemberId(Long commentId, Long memberId);
+    // (comment_id, member_id) 유니크 인덱스에 막히면 0을 반환한다.
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO comment_dislike (comment_id, member_id, created_at, modified_at)
+            VALUES (:commentId, :memberId, NOW(6), NOW(6))
+            """, nativeQuery = true)
+    int insertIfAbsent(Long commentId, Long memberId);
 }
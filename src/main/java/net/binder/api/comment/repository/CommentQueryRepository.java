@@ -1,7 +1,9 @@
 package net.binder.api.comment.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import net.binder.api.comment.dto.CommentDetail;
+import net.binder.api.comment.entity.Comment;
 
 public interface CommentQueryRepository {
 
@@ -14,4 +16,6 @@ public interface CommentQueryRepository {
     List<CommentDetail> findCommentDetails(Long binId, CommentSort sort, Long lastCommentId,
                                            Long lastLikeCount,
                                            int pageSize);
+
+    List<Comment> findPendingModeration(LocalDateTime modifiedBefore, int limit);
 }
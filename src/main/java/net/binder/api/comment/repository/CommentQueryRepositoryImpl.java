@@ -5,14 +5,18 @@ import static net.binder.api.comment.entity.QCommentDislike.commentDislike;
 import static net.binder.api.comment.entity.QCommentLike.commentLike;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import net.binder.api.comment.dto.CommentDetail;
 import net.binder.api.comment.dto.CommentInfoForMember;
+import net.binder.api.comment.entity.Comment;
+import net.binder.api.comment.entity.CommentStatus;
 
 @RequiredArgsConstructor
 public class CommentQueryRepositoryImpl implements CommentQueryRepository {
@@ -32,6 +36,7 @@ public class CommentQueryRepositoryImpl implements CommentQueryRepository {
                                 comment.likeCount,
                                 comment.dislikeCount,
                                 comment.createdAt,
+                                comment.status,
 
                                 Projections.constructor(
                                         CommentInfoForMember.class,
@@ -45,7 +50,7 @@ public class CommentQueryRepositoryImpl implements CommentQueryRepository {
                 .leftJoin(commentLike).on(comment.eq(commentLike.comment).and(commentLike.member.id.eq(memberId)))
                 .leftJoin(commentDislike)
                 .on(comment.eq(commentDislike.comment).and(commentDislike.member.id.eq(memberId)))
-                .where(comment.id.eq(commentId))
+                .where(comment.id.eq(commentId), isVisibleTo(memberId))
                 .fetchOne();
     }
 
@@ -64,6 +69,7 @@ public class CommentQueryRepositoryImpl implements CommentQueryRepository {
                                 comment.likeCount,
                                 comment.dislikeCount,
                                 comment.createdAt,
+                                comment.status,
 
                                 Projections.constructor(
                                         CommentInfoForMember.class,
@@ -77,7 +83,7 @@ public class CommentQueryRepositoryImpl implements CommentQueryRepository {
                 .leftJoin(commentLike).on(commentLike.comment.eq(comment).and(commentLike.member.id.eq(memberId)))
                 .leftJoin(commentDislike)
                 .on(commentDislike.comment.eq(comment).and(commentDislike.member.id.eq(memberId)))
-                .where(getWhere(binId, sort, lastCommentId, lastLikeCount))
+                .where(getWhere(memberId, binId, sort, lastCommentId, lastLikeCount))
                 .limit(pageSize)
                 .orderBy(getOrderSpecifiers(sort))
                 .fetch();
@@ -98,20 +104,35 @@ public class CommentQueryRepositoryImpl implements CommentQueryRepository {
                                 comment.likeCount,
                                 comment.dislikeCount,
                                 comment.createdAt,
+                                comment.status,
                                 Expressions.nullExpression(CommentInfoForMember.class)
                         )
                 )
                 .from(comment)
-                .where(getWhere(binId, sort, lastCommentId, lastLikeCount))
+                .where(getWhere(null, binId, sort, lastCommentId, lastLikeCount))
                 .limit(pageSize)
                 .orderBy(getOrderSpecifiers(sort))
                 .fetch();
     }
 
-    private BooleanBuilder getWhere(Long binId, CommentSort sort, Long lastCommentId, Long lastLikeCount) {
+    @Override
+    public List<Comment> findPendingModeration(LocalDateTime modifiedBefore, int limit) {
+        return jpaQueryFactory
+                .selectFrom(comment)
+                .where(comment.status.eq(CommentStatus.PENDING_MODERATION),
+                        comment.modifiedAt.before(modifiedBefore),
+                        comment.deletedAt.isNull())
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanBuilder getWhere(Long memberId, Long binId, CommentSort sort, Long lastCommentId,
+                                    Long lastLikeCount) {
         BooleanBuilder booleanBuilder = new BooleanBuilder();
         booleanBuilder.and(comment.bin.id.eq(binId)); // 특정 쓰레기통에 포함된 경우
         booleanBuilder.and(comment.deletedAt.isNull()); // 삭제되지 않은 경우
+        booleanBuilder.and(isVisibleTo(memberId)); // 게시된 댓글이거나 검증 대기 중인 본인 댓글인 경우
 
         if (sort == CommentSort.LIKE_COUNT_DESC && lastLikeCount != null && lastCommentId != null) {
             return booleanBuilder.and(comment.likeCount.lt(lastLikeCount)
@@ -125,6 +146,15 @@ public class CommentQueryRepositoryImpl implements CommentQueryRepository {
         return booleanBuilder;
     }
 
+    private BooleanExpression isVisibleTo(Long memberId) {
+        BooleanExpression isPublished = comment.status.eq(CommentStatus.PUBLISHED);
+        if (memberId == null) {
+            return isPublished;
+        }
+        return isPublished.or(comment.status.eq(CommentStatus.PENDING_MODERATION)
+                .and(comment.member.id.eq(memberId)));
+    }
+
     private OrderSpecifier<?>[] getOrderSpecifiers(CommentSort sort) {
         if (sort == CommentSort.LIKE_COUNT_DESC) {
             return new OrderSpecifier[]{comment.likeCount.desc(), comment.id.desc()};
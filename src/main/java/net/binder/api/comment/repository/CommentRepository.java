@@ -1,15 +1,18 @@
 package net.binder.api.comment.repository;
 
-import jakarta.persistence.LockModeType;
-import java.util.Optional;
 import net.binder.api.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface CommentRepository extends JpaRepository<Comment, Long>, CommentQueryRepository {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT c FROM Comment c WHERE c.id = :id")
-    Optional<Comment> findByIdWithPessimisticLock(Long id);
+    // 읽지 않고 한 문장으로 증감하므로 동시에 반응해도 갱신이 유실되지 않는다. 삭제된 댓글이면 0을 반환한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + :delta WHERE c.id = :id AND c.deletedAt IS NULL")
+    int addLikeCount(Long id, long delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.dislikeCount = c.dislikeCount + :delta WHERE c.id = :id AND c.deletedAt IS NULL")
+    int addDislikeCount(Long id, long delta);
 }
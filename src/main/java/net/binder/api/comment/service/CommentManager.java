@@ -1,8 +1,13 @@
 package net.binder.api.comment.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import net.binder.api.comment.entity.Comment;
 import net.binder.api.comment.repository.CommentRepository;
+import net.binder.api.filtering.dto.CurseCheckResult;
+import net.binder.api.notification.entity.NotificationType;
+import net.binder.api.notification.service.NotificationService;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +17,8 @@ public class CommentManager {
 
     private final CommentRepository commentRepository;
 
+    private final NotificationService notificationService;
+
     @Transactional
     public Long add(Comment comment) {
         return commentRepository.save(comment)
@@ -23,8 +30,39 @@ public class CommentManager {
         comment.modifyContent(content);
     }
 
+    @Transactional
+    public void updateForModeration(Comment comment, String content) {
+        comment.modifyContent(content);
+        comment.holdForModeration();
+    }
+
     @Transactional
     public boolean delete(Comment comment) {
         return comment.softDelete();
     }
+
+    // 검증을 요청한 뒤 댓글이 수정되었다면 새로운 내용에 대한 검증 결과를 기다린다.
+    @Transactional
+    public void applyModeration(Long commentId, String content, CurseCheckResult curseCheckResult) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElse(null);
+
+        if (comment == null || !comment.isPendingModeration() || !comment.getContent().equals(content)) {
+            return;
+        }
+
+        if (!curseCheckResult.getIsCurse()) {
+            comment.publish();
+            return;
+        }
+
+        comment.hide();
+        notificationService.sendNotification(null, comment.getMember(), comment.getBin(),
+                NotificationType.COMMENT_REJECTED, String.join(", ", curseCheckResult.getWords()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Comment> findPendingModeration(LocalDateTime modifiedBefore, int limit) {
+        return commentRepository.findPendingModeration(modifiedBefore, limit);
+    }
 }
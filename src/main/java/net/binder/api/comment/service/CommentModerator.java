@@ -0,0 +1,122 @@
+package net.binder.api.comment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import net.binder.api.comment.entity.Comment;
+import net.binder.api.filtering.dto.CurseCheckResult;
+import net.binder.api.filtering.service.FilteringService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 댓글을 먼저 저장한 뒤 AI 검증은 요청 스레드 밖에서 수행한다.
+@Component
+@Slf4j
+public class CommentModerator {
+
+    private static final int RETRY_BATCH_SIZE = 100;
+
+    private final FilteringService filteringService;
+
+    private final CommentManager commentManager;
+
+    private final boolean enabled;
+
+    private final long retryDelaySeconds;
+
+    private final ThreadPoolExecutor executor;
+
+    public CommentModerator(FilteringService filteringService,
+                            CommentManager commentManager,
+                            @Value("${comment.async-moderation.enabled:false}") boolean enabled,
+                            @Value("${comment.async-moderation.pool-size:4}") int poolSize,
+                            @Value("${comment.async-moderation.queue-capacity:500}") int queueCapacity,
+                            @Value("${comment.async-moderation.retry-delay-seconds:60}") long retryDelaySeconds) {
+        this.filteringService = filteringService;
+        this.commentManager = commentManager;
+        this.enabled = enabled;
+        this.retryDelaySeconds = retryDelaySeconds;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), newThreadFactory());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 댓글이 커밋된 이후에 검증을 시작한다. 대기열이 가득 찼다면 재시도 작업이 처리한다.
+    public void moderate(Long commentId, String content) {
+        afterCommit(() -> submit(commentId, content));
+    }
+
+    // 서버 재시작이나 AI 호출 실패로 검증 대기 상태에 남은 댓글을 다시 검증한다.
+    @Scheduled(fixedDelayString = "${comment.async-moderation.retry-interval-ms:60000}")
+    public void retryPending() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime modifiedBefore = LocalDateTime.now().minusSeconds(retryDelaySeconds);
+
+        for (Comment comment : commentManager.findPendingModeration(modifiedBefore, RETRY_BATCH_SIZE)) {
+            if (!submit(comment.getId(), comment.getContent())) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private boolean submit(Long commentId, String content) {
+        try {
+            executor.execute(() -> check(commentId, content));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("댓글 검증 대기열이 가득 찼습니다. commentId = {}", commentId);
+            return false;
+        }
+    }
+
+    private void check(Long commentId, String content) {
+        try {
+            CurseCheckResult curseCheckResult = filteringService.checkCurseByAi(content);
+            commentManager.applyModeration(commentId, content, curseCheckResult);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("댓글 AI 검증에 실패했습니다. commentId = {}", commentId, e);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "comment-moderation-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -8,8 +8,6 @@ import net.binder.api.bin.entity.Bin;
 import net.binder.api.bin.service.BinService;
 import net.binder.api.comment.dto.CommentDetail;
 import net.binder.api.comment.entity.Comment;
-import net.binder.api.comment.entity.CommentDislike;
-import net.binder.api.comment.entity.CommentLike;
 import net.binder.api.comment.repository.CommentDislikeRepository;
 import net.binder.api.comment.repository.CommentLikeRepository;
 import net.binder.api.comment.repository.CommentRepository;
@@ -43,12 +41,22 @@ public class CommentService {
 
     private final CommentManager commentManager;
 
+    private final CommentModerator commentModerator;
+
     public Long createComment(String email, Long binId, String content) throws JsonProcessingException {
         Member member = memberService.findByEmail(email);
         Bin bin = binService.findById(binId);
 
         Comment comment = new Comment(member, bin, content); // 60자 이내인지 검사
 
+        if (commentModerator.isEnabled()) { // 사전 검증만 마치고 저장한 뒤 AI 검증은 비동기로 수행
+            validateIsCurseInDictionary(content);
+            comment.holdForModeration();
+            Long commentId = commentManager.add(comment);
+            commentModerator.moderate(commentId, content);
+            return commentId;
+        }
+
         validateIsCurse(content);
 
         return commentManager.add(comment);
@@ -59,13 +67,14 @@ public class CommentService {
 
         if (email == null) { // 비로그인 유저일 경우
             Comment comment = getComment(commentId);
+            validateIsPublished(comment);
             return CommentDetail.createForNoMember(comment);
         }
 
         // 로그인 유저일 경우
-        Member member = memberService.findByEmail(email);
+        Long memberId = memberService.findIdByEmail(email);
 
-        CommentDetail commentDetail = commentRepository.findCommentDetail(commentId, member.getId());
+        CommentDetail commentDetail = commentRepository.findCommentDetail(commentId, memberId);
 
         if (commentDetail == null) {
             throw new BadRequestException("존재하지 않는 댓글입니다.");
@@ -77,6 +86,14 @@ public class CommentService {
     public void modifyComment(String email, Long commentId, String content) throws JsonProcessingException {
         Comment comment = getComment(commentId);
         validateIsWriter(email, comment);
+
+        if (commentModerator.isEnabled()) {
+            validateIsCurseInDictionary(content);
+            commentManager.updateForModeration(comment, content);
+            commentModerator.moderate(comment.getId(), content);
+            return;
+        }
+
         validateIsCurse(content);
         commentManager.update(comment, content);
 
@@ -103,64 +120,78 @@ public class CommentService {
         }
 
         //로그인 유저일 경우
-        Member member = memberService.findByEmail(email);
+        Long memberId = memberService.findIdByEmail(email);
 
-        return commentRepository.findCommentDetails(member.getId(), bin.getId(), sort,
+        return commentRepository.findCommentDetails(memberId, bin.getId(), sort,
                 lastCommentId, lastLikeCount, PAGE_SIZE);
     }
 
+    // 수를 먼저 증감해 댓글 행을 가장 먼저 잠근다. 반응 행 INSERT의 외래 키 검사가 댓글 행에 공유 잠금을 걸기 때문에
+    // 반응 행을 먼저 쓰고 나중에 수를 증감하면 같은 댓글에 동시에 반응한 트랜잭션끼리 교착 상태에 빠질 수 있다.
+    // 중복 반응은 (comment_id, member_id) 유니크 인덱스가 막고, 예외로 트랜잭션이 롤백되어 먼저 증감한 수도 되돌아간다.
     @Transactional
     public void createCommentLike(String email, Long commentId) {
-        Member member = memberService.findByEmail(email);
-        Comment comment = getCommentWithPessimisticLock(commentId); // 조회와 동시에 배타적 락 획득
+        Long memberId = memberService.findIdByEmail(email);
+        addLikeCount(commentId, 1);
 
         // 이미 좋아요가 존재하는 경우 예외 발생
-        validateIsAlreadyLiked(comment, member);
+        if (commentLikeRepository.insertIfAbsent(commentId, memberId) == 0) {
+            throw new BadRequestException("이미 좋아요한 댓글입니다.");
+        }
 
         // 이미 싫어요가 있는 경우 삭제하고 싫어요 1 감소
-        decreaseDislikeIfExists(comment, member);
-
-        CommentLike commentLike = new CommentLike(member, comment);
-        commentLikeRepository.save(commentLike);
-        comment.increaseLikeCount();
+        if (commentDislikeRepository.deleteByCommentIdAndMemberId(commentId, memberId) != 0) {
+            addDislikeCount(commentId, -1);
+        }
     }
 
     @Transactional
     public void createCommentDislike(String email, Long commentId) {
-        Member member = memberService.findByEmail(email);
-        Comment comment = getCommentWithPessimisticLock(commentId);
+        Long memberId = memberService.findIdByEmail(email);
+        addDislikeCount(commentId, 1);
 
         // 이미 싫어요가 존재하는 경우 예외 발생
-        validateIsAlreadyDisliked(comment, member);
+        if (commentDislikeRepository.insertIfAbsent(commentId, memberId) == 0) {
+            throw new BadRequestException("이미 싫어요한 댓글입니다.");
+        }
 
         // 이미 좋아요가 있는 경우 삭제하고 좋아요 1 감소
-        decreaseLikeIfExists(comment, member);
-
-        CommentDislike commentDislike = new CommentDislike(member, comment);
-        commentDislikeRepository.save(commentDislike);
-        comment.increaseDislikeCount();
+        if (commentLikeRepository.deleteByCommentIdAndMemberId(commentId, memberId) != 0) {
+            addLikeCount(commentId, -1);
+        }
     }
 
     @Transactional
     public void deleteCommentLike(String email, Long commentId) {
-        Member member = memberService.findByEmail(email);
-        Comment comment = getCommentWithPessimisticLock(commentId);
+        Long memberId = memberService.findIdByEmail(email);
+        addLikeCount(commentId, -1);
 
-        validateIsNotLiked(comment, member);
-
-        commentLikeRepository.deleteByCommentIdAndMemberId(comment.getId(), member.getId());
-        comment.decreaseLikeCount();
+        if (commentLikeRepository.deleteByCommentIdAndMemberId(commentId, memberId) == 0) {
+            throw new BadRequestException("좋아요를 한 내역이 없습니다.");
+        }
     }
 
     @Transactional
     public void deleteCommentDislike(String email, Long commentId) {
-        Member member = memberService.findByEmail(email);
-        Comment comment = getCommentWithPessimisticLock(commentId);
+        Long memberId = memberService.findIdByEmail(email);
+        addDislikeCount(commentId, -1);
 
-        validateIsNotDisliked(comment, member);
+        if (commentDislikeRepository.deleteByCommentIdAndMemberId(commentId, memberId) == 0) {
+            throw new BadRequestException("싫어요를 한 내역이 없습니다.");
+        }
+    }
 
-        commentDislikeRepository.deleteByCommentIdAndMemberId(comment.getId(), member.getId());
-        comment.decreaseDislikeCount();
+    // 삭제되었거나 없는 댓글이면 갱신된 행이 없다. 갱신한 뒤에는 커밋까지 댓글 행을 잠그므로 도중에 삭제될 수 없다.
+    private void addLikeCount(Long commentId, long delta) {
+        if (commentRepository.addLikeCount(commentId, delta) == 0) {
+            throw new NotFoundException("존재하지 않는 댓글입니다.");
+        }
+    }
+
+    private void addDislikeCount(Long commentId, long delta) {
+        if (commentRepository.addDislikeCount(commentId, delta) == 0) {
+            throw new NotFoundException("존재하지 않는 댓글입니다.");
+        }
     }
 
     private void validateSearchCondition(CommentSort sort, Long lastCommentId, Long lastLikeCount) {
@@ -177,50 +208,15 @@ public class CommentService {
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 댓글입니다."));
     }
 
-    private Comment getCommentWithPessimisticLock(Long commentId) {
-        return commentRepository.findByIdWithPessimisticLock(commentId)
-                .orElseThrow(() -> new NotFoundException("존재하지 않는 댓글입니다."));
-    }
-
     private void validateIsWriter(String email, Comment comment) {
         if (!comment.isWriter(email)) {
             throw new BadRequestException("작성자 본인만 댓글 수정이 가능합니다.");
         }
     }
 
-    private void validateIsAlreadyLiked(Comment comment, Member member) {
-        if (commentLikeRepository.existsByCommentIdAndMemberId(comment.getId(), member.getId())) {
-            throw new BadRequestException("이미 좋아요한 댓글입니다.");
-        }
-    }
-
-    private void validateIsAlreadyDisliked(Comment comment, Member member) {
-        if (commentDislikeRepository.existsByCommentIdAndMemberId(comment.getId(), member.getId())) {
-            throw new BadRequestException("이미 싫어요한 댓글입니다.");
-        }
-    }
-
-    private void decreaseDislikeIfExists(Comment comment, Member member) {
-        if (commentDislikeRepository.deleteByCommentIdAndMemberId(comment.getId(), member.getId()) != 0) {
-            comment.decreaseDislikeCount();
-        }
-    }
-
-    private void decreaseLikeIfExists(Comment comment, Member member) {
-        if (commentLikeRepository.deleteByCommentIdAndMemberId(comment.getId(), member.getId()) != 0) {
-            comment.decreaseLikeCount();
-        }
-    }
-
-    private void validateIsNotLiked(Comment comment, Member member) {
-        if (!commentLikeRepository.existsByCommentIdAndMemberId(comment.getId(), member.getId())) {
-            throw new BadRequestException("좋아요를 한 내역이 없습니다.");
-        }
-    }
-
-    private void validateIsNotDisliked(Comment comment, Member member) {
-        if (!commentDislikeRepository.existsByCommentIdAndMemberId(comment.getId(), member.getId())) {
-            throw new BadRequestException("싫어요를 한 내역이 없습니다.");
+    private void validateIsPublished(Comment comment) {
+        if (!comment.isPublished()) {
+            throw new BadRequestException("존재하지 않는 댓글입니다.");
         }
     }
 
@@ -233,9 +229,21 @@ public class CommentService {
         }
     }
 
+    private void validateIsCurseInDictionary(String content) {
+        List<String> curseWords = filteringService.checkCurseByDictionary(content);
+        if (!curseWords.isEmpty()) {
+            String words = extractCurseWords(curseWords);
+
+            throw new BadRequestException("댓글 내용에 비속어가 포함되어 있습니다. " + words);
+        }
+    }
+
     private String extractCurseWords(CurseCheckResult curseCheckResult) {
-        return curseCheckResult.getWords()
-                .stream()
+        return extractCurseWords(curseCheckResult.getWords());
+    }
+
+    private String extractCurseWords(List<String> curseWords) {
+        return curseWords.stream()
                 .collect(Collectors.joining(", ", "(", ")"));
     }
 }
@@ -0,0 +1,26 @@
+package net.binder.api.common.binsetup.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// INSERT IGNORE 결과. 요청한 행 중 추가되지 않은 행은 이미 있는 쓰레기통과 겹쳐 무시된 것으로 본다.
+@Getter
+@RequiredArgsConstructor
+public class BinInsertResult {
+
+    private final int requestedCount;
+
+    private final int insertedCount;
+
+    public static BinInsertResult empty() {
+        return new BinInsertResult(0, 0);
+    }
+
+    public int getDuplicateCount() {
+        return requestedCount - insertedCount;
+    }
+
+    public BinInsertResult plus(BinInsertResult other) {
+        return new BinInsertResult(requestedCount + other.requestedCount, insertedCount + other.insertedCount);
+    }
+}
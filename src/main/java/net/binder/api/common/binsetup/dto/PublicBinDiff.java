@@ -0,0 +1,15 @@
+package net.binder.api.common.binsetup.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 청크를 직전 스냅샷과 비교한 결과. 스냅샷에 없는(추가되었거나 내용이 바뀐) 행만 주소 검색 대상이다.
+@Getter
+@RequiredArgsConstructor
+public class PublicBinDiff {
+
+    private final List<PublicBinData> addedRows;
+
+    private final List<String> unchangedHashes;
+}
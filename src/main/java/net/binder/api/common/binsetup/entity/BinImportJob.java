@@ -0,0 +1,105 @@
+package net.binder.api.common.binsetup.entity;
+
+import static net.binder.api.common.binsetup.entity.BinImportStatus.COMPLETED;
+import static net.binder.api.common.binsetup.entity.BinImportStatus.FAILED;
+import static net.binder.api.common.binsetup.entity.BinImportStatus.RUNNING;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.binder.api.common.entity.BaseEntity;
+import org.hibernate.annotations.ColumnDefault;
+
+// 공공 쓰레기통 데이터 적재 작업의 진행 상황. 청크가 커밋될 때마다 함께 갱신되어 중단된 지점부터 다시 시작할 수 있다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BinImportJob extends BaseEntity {
+
+    @Column(length = 500, nullable = false)
+    private String sourcePath;
+
+    @Column(length = 100)
+    private String sourceFingerprint; // 적재 시작 시점의 파일 크기와 수정 시각. 같은 경로라도 내용이 바뀌었다면 이어서 진행하지 않는다.
+
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'FULL'")
+    private BinImportMode mode;
+
+    @Enumerated(EnumType.STRING)
+    private BinImportStatus status;
+
+    private long rowsRead;
+
+    private long geocodedCount;
+
+    private long failedCount;
+
+    private long insertedCount;
+
+    private long duplicateCount; // 이미 있는 쓰레기통과 겹쳐 추가되지 않은 행 수
+
+    private long unchangedCount; // 증분 적재에서 직전 스냅샷과 같아 건너뛴 행 수
+
+    private long removedCount; // 증분 적재에서 원본에서 사라져 삭제한 행 수
+
+    private long lastCommittedRow; // 마지막으로 커밋된 청크의 마지막 행 번호 (헤더 제외)
+
+    @Column(length = 1000)
+    private String failureMessage;
+
+    public BinImportJob(String sourcePath, String sourceFingerprint, BinImportMode mode) {
+        this.sourcePath = sourcePath;
+        this.sourceFingerprint = sourceFingerprint;
+        this.mode = mode;
+        this.status = RUNNING;
+    }
+
+    public void resume() {
+        this.status = RUNNING;
+        this.failureMessage = null;
+    }
+
+    public void commitChunk(long lastRow, long geocodedCount, long failedCount, long insertedCount,
+                            long duplicateCount) {
+        this.rowsRead += lastRow - this.lastCommittedRow;
+        this.lastCommittedRow = lastRow;
+        this.geocodedCount += geocodedCount;
+        this.failedCount += failedCount;
+        this.insertedCount += insertedCount;
+        this.duplicateCount += duplicateCount;
+    }
+
+    public void recordUnchanged(long unchangedCount) {
+        this.unchangedCount += unchangedCount;
+    }
+
+    public void recordRemoved(long removedCount) {
+        this.removedCount += removedCount;
+    }
+
+    public void complete() {
+        this.status = COMPLETED;
+    }
+
+    public void fail(String failureMessage) {
+        this.status = FAILED;
+        this.failureMessage = failureMessage;
+    }
+
+    public boolean isIncremental() {
+        return this.mode == BinImportMode.INCREMENTAL;
+    }
+
+    public boolean isResumableWith(String sourceFingerprint, BinImportMode mode) {
+        return !isCompleted() && this.mode == mode && sourceFingerprint.equals(this.sourceFingerprint);
+    }
+
+    public boolean isCompleted() {
+        return this.status == COMPLETED;
+    }
+}
@@ -0,0 +1,6 @@
+package net.binder.api.common.binsetup.entity;
+
+public enum BinImportMode {
+    FULL, // 모든 행을 주소 검색해 INSERT IGNORE로 추가한다.
+    INCREMENTAL // 직전 적재 스냅샷과 비교해 추가/변경된 행만 반영하고 사라진 행은 삭제한다.
+}
@@ -0,0 +1,5 @@
+package net.binder.api.common.binsetup.entity;
+
+public enum BinImportStatus {
+    RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,86 @@
+package net.binder.api.common.binsetup.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.common.entity.BaseEntity;
+import net.binder.api.common.kakaomap.dto.ProcessedBinData;
+
+// 증분 적재에서 공공데이터 원본 행(내용 해시)과 그 행으로 만든 쓰레기통을 이어 주는 스냅샷.
+// 원본에는 변하지 않는 행 번호가 없으므로 내용이 바뀐 행은 기존 행 삭제 + 새 행 추가로 다룬다.
+// 쓰레기통은 (address, type, title) 유니크 키로 찾는다. 사라진 행은 같은 원본 파일을 다시 적재할 때만 판단한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_public_bin_snapshot_last_seen", columnList = "sourcePath, lastSeenJobId, removedAt")
+})
+public class PublicBinSnapshot extends BaseEntity {
+
+    @Column(length = 64, nullable = false, unique = true)
+    private String contentHash;
+
+    @Column(length = 500)
+    private String sourcePath; // 마지막으로 이 행을 본 원본 파일
+
+    private String binTitle;
+
+    private String binAddress;
+
+    @Enumerated(EnumType.STRING)
+    private BinType binType;
+
+    private Long lastSeenJobId;
+
+    private LocalDateTime removedAt;
+
+    private LocalDateTime binDeletedAt; // 이 행이 사라져 동기화가 쓰레기통을 삭제했을 때의 삭제 시각
+
+    public PublicBinSnapshot(String contentHash, String sourcePath, Long jobId) {
+        this.contentHash = contentHash;
+        this.sourcePath = sourcePath;
+        this.lastSeenJobId = jobId;
+    }
+
+    public void markSeen(String sourcePath, Long jobId) {
+        this.sourcePath = sourcePath;
+        this.lastSeenJobId = jobId;
+        this.removedAt = null;
+        this.binDeletedAt = null;
+    }
+
+    public void markRemoved() {
+        this.removedAt = LocalDateTime.now();
+    }
+
+    public void linkBin(ProcessedBinData processedBinData) {
+        this.binTitle = processedBinData.getTitle();
+        this.binAddress = processedBinData.getAddress();
+        this.binType = processedBinData.getType();
+    }
+
+    public void markBinDeleted(LocalDateTime binDeletedAt) {
+        this.binDeletedAt = binDeletedAt;
+    }
+
+    // 관리자 삭제나 신고로 삭제된 쓰레기통은 삭제 시각이 달라 동기화가 되살리지 않는다.
+    public boolean isBinDeletedBySync(LocalDateTime binDeletedAt) {
+        return this.binDeletedAt != null && this.binDeletedAt.equals(binDeletedAt);
+    }
+
+    public boolean hasBin() {
+        return binAddress != null;
+    }
+
+    public boolean isRemoved() {
+        return removedAt != null;
+    }
+}
@@ -1,53 +1,97 @@
 package net.binder.api.common.binsetup.repository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.binder.api.common.binsetup.dto.BinInsertResult;
 import net.binder.api.common.kakaomap.dto.ProcessedBinData;
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
+// 여러 행을 하나의 INSERT 문으로 묶어 저장한다. 트랜잭션은 호출하는 쪽(청크 단위)에서 관리한다.
+@Slf4j
 @Repository
-@RequiredArgsConstructor
 public class BinBatchInsertRepository {
 
+    private static final String INSERT_PREFIX = """
+            INSERT IGNORE INTO bin (title, type, point, address, like_count, dislike_count, bookmark_count, image_url, created_at)
+              VALUES\s""";
+
+    // MySQL의 내부 좌표 순서는 (경도, 위도)이므로 POINT(경도, 위도)에 SRID만 붙인다.
+    private static final String ROW_VALUES = "(?, ?, ST_SRID(POINT(?, ?), 4326), ?, 0, 0, 0, NULL, ?)";
+
+    private static final int PARAMETERS_PER_ROW = 6;
+
+    private static final int MAX_PARAMETERS = 65_535;
+
     private final JdbcTemplate jdbcTemplate;
 
-    public void batchInsertInitialBins(List<ProcessedBinData> dataList){
-        String sql = """ 
-                INSERT IGNORE INTO bin (title, type, point, address, like_count, dislike_count, bookmark_count, image_url, created_at)\s
-                  VALUES (?, ?, ST_GeomFromText(?, 4326), ?, ?, ?, ?, ?, ?)
-                  """;
-        
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                ProcessedBinData processedBinData = dataList.get(i);
-                if(processedBinData==null){
-                    return;
-                }
-                ps.setString(1, processedBinData.getTitle());
-                ps.setString(2, processedBinData.getType().name());
-                ps.setString(3, String.format("POINT(%.12f %.13f)", processedBinData.getLatitude(), processedBinData.getLongitude()));
-                ps.setString(4, processedBinData.getAddress());
-                ps.setLong(5, 0L);
-                ps.setLong(6, 0L);
-                ps.setLong(7, 0L);
-                ps.setString(8, null);
-                ps.setTimestamp(9, Timestamp.valueOf(LocalDateTime.now()));
+    private final int rowsPerStatement;
+
+    public BinBatchInsertRepository(JdbcTemplate jdbcTemplate,
+                                    @Value("${bin-setup.rows-per-insert:1000}") int rowsPerStatement) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rowsPerStatement = Math.min(rowsPerStatement, MAX_PARAMETERS / PARAMETERS_PER_ROW);
+    }
+
+    // 실제로 추가된 행 수와 중복으로 무시된 행 수를 함께 반환한다.
+    public BinInsertResult batchInsertInitialBins(List<ProcessedBinData> dataList) {
+        List<ProcessedBinData> bins = dataList.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        BinInsertResult result = BinInsertResult.empty();
+        for (int from = 0; from < bins.size(); from += rowsPerStatement) {
+            List<ProcessedBinData> rows = bins.subList(from, Math.min(from + rowsPerStatement, bins.size()));
+            BinInsertResult rowsResult = insertRows(rows, createdAt);
+            if (rowsResult.getDuplicateCount() > 0) {
+                log.debug("중복된 쓰레기통을 건너뛰었습니다. requested = {}, duplicates = {}",
+                        rowsResult.getRequestedCount(), rowsResult.getDuplicateCount());
             }
+            result = result.plus(rowsResult);
+        }
+        return result;
+    }
 
-            @Override
-            public int getBatchSize() {
-                return dataList.size();
+    private BinInsertResult insertRows(List<ProcessedBinData> rows, Timestamp createdAt) {
+        int insertedCount = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(insertSql(rows.size()));
+            int index = 1;
+            for (ProcessedBinData row : rows) {
+                index = bindRow(ps, index, row, createdAt);
             }
+            return ps;
         });
+        return new BinInsertResult(rows.size(), insertedCount);
+    }
+
+    private int bindRow(PreparedStatement ps, int index, ProcessedBinData row, Timestamp createdAt)
+            throws SQLException {
+        ps.setString(index++, row.getTitle());
+        ps.setString(index++, row.getType().name());
+        ps.setDouble(index++, row.getLongitude());
+        ps.setDouble(index++, row.getLatitude());
+        ps.setString(index++, row.getAddress());
+        ps.setTimestamp(index++, createdAt);
+        return index;
+    }
+
+    private String insertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rowCount * (ROW_VALUES.length() + 2))
+                .append(INSERT_PREFIX);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_VALUES);
+        }
+        return sql.toString();
     }
 }
@@ -0,0 +1,13 @@
+package net.binder.api.common.binsetup.repository;
+
+import java.util.List;
+import java.util.Optional;
+import net.binder.api.common.binsetup.entity.BinImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BinImportJobRepository extends JpaRepository<BinImportJob, Long> {
+
+    Optional<BinImportJob> findFirstBySourcePathOrderByIdDesc(String sourcePath);
+
+    List<BinImportJob> findTop20ByOrderByIdDesc();
+}
@@ -0,0 +1,21 @@
+package net.binder.api.common.binsetup.repository;
+
+import java.util.Collection;
+import java.util.List;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.common.binsetup.entity.PublicBinSnapshot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PublicBinSnapshotRepository extends JpaRepository<PublicBinSnapshot, Long> {
+
+    List<PublicBinSnapshot> findAllByContentHashIn(Collection<String> contentHashes);
+
+    // 같은 원본 파일에서 이번 작업에 보이지 않은(원본에서 사라진) 행
+    List<PublicBinSnapshot> findBySourcePathAndLastSeenJobIdLessThanAndRemovedAtIsNull(String sourcePath, Long jobId,
+                                                                                     Pageable pageable);
+
+    // 주소 표기만 다른 여러 행이 같은 쓰레기통으로 검색될 수 있다.
+    boolean existsByBinAddressAndBinTypeAndBinTitleAndRemovedAtIsNull(String binAddress, BinType binType,
+                                                                      String binTitle);
+}
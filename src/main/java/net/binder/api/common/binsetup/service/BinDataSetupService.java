@@ -1,25 +1,275 @@
 package net.binder.api.common.binsetup.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import net.binder.api.common.binsetup.dto.PublicBinData;
+import net.binder.api.common.binsetup.dto.PublicBinDiff;
+import net.binder.api.common.binsetup.entity.BinImportJob;
+import net.binder.api.common.binsetup.entity.BinImportMode;
+import net.binder.api.common.binsetup.util.BinDataReader;
+import net.binder.api.common.binsetup.util.TokenBucket;
 import net.binder.api.common.kakaomap.dto.ProcessedBinData;
-import net.binder.api.common.binsetup.repository.BinBatchInsertRepository;
 import net.binder.api.common.kakaomap.service.KakaoMapService;
-import net.binder.api.common.binsetup.util.ExcelDataExtractor;
+import net.binder.api.search.service.BinSpatialIndex;
+import net.binder.api.search.service.BinTileCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
-@RequiredArgsConstructor
+// 파일 스트리밍 읽기 -> 호출량이 제한된 주소 검색 -> 청크 단위 저장 순서로 적재하며, 청크마다 진행 상황을 기록한다.
+@Slf4j
 @Service
 public class BinDataSetupService {
 
-    private final BinBatchInsertRepository binBatchInsertRepository;
+    private static final int REMOVE_BATCH_SIZE = 500;
+
+    private final BinImportJobManager binImportJobManager;
+    private final PublicBinSyncManager publicBinSyncManager;
     private final KakaoMapService kakaoMapService;
+    private final BinSpatialIndex binSpatialIndex;
+    private final BinTileCache binTileCache;
+    private final int chunkSize;
+    private final int geocodeConcurrency;
+    private final TokenBucket geocodeRateLimiter;
+    private final Charset csvCharset;
+    private final String syncPath;
+
+    // 증분 적재는 주소 검색 호출량 제한 때문에 몇 시간이 걸릴 수 있다. 다른 주기 작업과 함께 쓰는 스케줄러 스레드를
+    // 붙잡지 않도록 예약된 동기화는 전용 스레드에서 돌리고, 동기화는 한 번에 하나만 진행한다.
+    private final ExecutorService syncExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "public-bin-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean syncRunning = new AtomicBoolean();
+
+    public BinDataSetupService(BinImportJobManager binImportJobManager,
+                               PublicBinSyncManager publicBinSyncManager,
+                               KakaoMapService kakaoMapService,
+                               BinSpatialIndex binSpatialIndex,
+                               BinTileCache binTileCache,
+                               @Value("${bin-setup.chunk-size:500}") int chunkSize,
+                               @Value("${bin-setup.geocode-concurrency:4}") int geocodeConcurrency,
+                               @Value("${bin-setup.geocode-rate-per-second:10}") double geocodeRatePerSecond,
+                               @Value("${bin-setup.csv-charset:UTF-8}") Charset csvCharset,
+                               @Value("${bin-setup.sync.path:}") String syncPath) {
+        this.binImportJobManager = binImportJobManager;
+        this.publicBinSyncManager = publicBinSyncManager;
+        this.kakaoMapService = kakaoMapService;
+        this.binSpatialIndex = binSpatialIndex;
+        this.binTileCache = binTileCache;
+        this.chunkSize = chunkSize;
+        this.geocodeConcurrency = geocodeConcurrency;
+        this.geocodeRateLimiter = new TokenBucket(geocodeConcurrency, geocodeRatePerSecond);
+        this.csvCharset = csvCharset;
+        this.syncPath = syncPath;
+    }
+
+    public BinImportJob saveInitialDate(String path){
+        return importBins(path, BinImportMode.FULL);
+    }
+
+    // 직전 적재와 달라진 행만 반영한다. 사라진 행의 쓰레기통은 삭제된다.
+    public BinImportJob syncPublicBins(String path) {
+        if (!syncRunning.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 진행 중인 공공 쓰레기통 동기화가 있습니다.");
+        }
+        try {
+            return importBins(path, BinImportMode.INCREMENTAL);
+        } finally {
+            syncRunning.set(false);
+        }
+    }
+
+    @Scheduled(cron = "${bin-setup.sync.cron:-}")
+    public void syncPublicBinsOnSchedule() {
+        if (syncPath.isBlank()) {
+            return;
+        }
+        if (syncRunning.get()) {
+            log.warn("이전 동기화가 아직 진행 중이어서 이번 예약 동기화를 건너뜁니다. path = {}", syncPath);
+            return;
+        }
+        syncExecutor.execute(() -> {
+            try {
+                syncPublicBins(syncPath);
+            } catch (RuntimeException e) {
+                log.warn("예약된 공공 쓰레기통 동기화를 마치지 못했습니다. path = {}", syncPath, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        syncExecutor.shutdownNow();
+    }
+
+    private BinImportJob importBins(String path, BinImportMode mode) {
+        BinImportJob binImportJob = binImportJobManager.startOrResume(path, getFingerprint(Path.of(path)), mode);
+        Long jobId = binImportJob.getId();
+        long lastCommittedRow = binImportJob.getLastCommittedRow();
+        log.info("쓰레기통 데이터 적재를 시작합니다. jobId = {}, mode = {}, path = {}, resumeAfterRow = {}", jobId, mode,
+                path, lastCommittedRow);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(geocodeConcurrency);
+        try {
+            ChunkedImport chunkedImport = new ChunkedImport(lastCommittedRow, (chunk, lastRow) -> {
+                if (mode == BinImportMode.INCREMENTAL) {
+                    processSyncChunk(jobId, chunk, lastRow, executorService);
+                } else {
+                    processChunk(jobId, chunk, lastRow, executorService);
+                }
+            });
+            BinDataReader.of(Path.of(path), csvCharset).read(Path.of(path), chunkedImport);
+            chunkedImport.flush();
+
+            if (mode == BinImportMode.INCREMENTAL) {
+                removeUnseen(jobId);
+            }
+            binImportJobManager.complete(jobId);
+        } catch (RuntimeException e) {
+            log.error("쓰레기통 데이터 적재에 실패했습니다. jobId = {}", jobId, e);
+            binImportJobManager.fail(jobId, e.getMessage());
+            throw e;
+        } finally {
+            executorService.shutdownNow();
+            if (binSpatialIndex.isReady()) {
+                binSpatialIndex.reload();
+            }
+            binTileCache.clear();
+        }
+
+        return binImportJobManager.getBinImportJob(jobId);
+    }
+
+    private String getFingerprint(Path path) {
+        try {
+            return Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException("적재할 파일 정보를 읽을 수 없습니다. path = " + path, e);
+        }
+    }
+
+    // 읽은 행을 청크 크기만큼 모아 처리한다. 이미 커밋된 행은 건너뛴다.
+    private class ChunkedImport implements Consumer<PublicBinData> {
+
+        private final long lastCommittedRow;
+
+        private final BiConsumer<List<PublicBinData>, Long> chunkProcessor;
+
+        private List<PublicBinData> chunk = new ArrayList<>(chunkSize);
+
+        private long rowNumber = 0;
+
+        private ChunkedImport(long lastCommittedRow, BiConsumer<List<PublicBinData>, Long> chunkProcessor) {
+            this.lastCommittedRow = lastCommittedRow;
+            this.chunkProcessor = chunkProcessor;
+        }
+
+        @Override
+        public void accept(PublicBinData publicBinData) {
+            if (++rowNumber <= lastCommittedRow) {
+                return;
+            }
+            chunk.add(publicBinData);
+            if (chunk.size() == chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunkProcessor.accept(chunk, rowNumber);
+            chunk = new ArrayList<>(chunkSize);
+        }
+    }
+
+    // 주소를 찾지 못한 행은 실패로 기록하고 넘어가지만, 호출 자체가 실패하면 청크를 커밋하지 않고 중단한다.
+    private void processChunk(Long jobId, List<PublicBinData> chunk, long lastRow, ExecutorService executorService) {
+        List<ProcessedBinData> geocodedBins = geocodeAll(chunk, executorService).stream()
+                .filter(Objects::nonNull)
+                .toList();
+
+        BinImportJob binImportJob = binImportJobManager.commitChunk(jobId, geocodedBins, lastRow,
+                chunk.size() - geocodedBins.size());
+        logChunk(jobId, binImportJob);
+    }
+
+    // 스냅샷에 없는 행만 주소를 검색한다.
+    private void processSyncChunk(Long jobId, List<PublicBinData> chunk, long lastRow,
+                                  ExecutorService executorService) {
+        PublicBinDiff diff = publicBinSyncManager.diff(chunk);
+        List<ProcessedBinData> geocodedBins = geocodeAll(diff.getAddedRows(), executorService);
+
+        BinImportJob binImportJob = publicBinSyncManager.commitChunk(jobId, diff, geocodedBins, lastRow);
+        logChunk(jobId, binImportJob);
+    }
+
+    // 원본을 끝까지 읽은 뒤에만 호출된다. 읽은 행이 없다면 파일 이상으로 보고 삭제하지 않는다.
+    private void removeUnseen(Long jobId) {
+        if (binImportJobManager.getBinImportJob(jobId).getRowsRead() == 0) {
+            log.warn("읽은 행이 없어 사라진 쓰레기통 삭제를 건너뜁니다. jobId = {}", jobId);
+            return;
+        }
+        int removedCount;
+        do {
+            removedCount = publicBinSyncManager.removeUnseen(jobId, REMOVE_BATCH_SIZE);
+        } while (removedCount > 0);
+    }
+
+    // 입력과 같은 순서로 반환하며, 주소를 찾지 못한 행은 null이다.
+    private List<ProcessedBinData> geocodeAll(List<PublicBinData> rows, ExecutorService executorService) {
+        List<Future<ProcessedBinData>> futures = new ArrayList<>(rows.size());
+        for (PublicBinData publicBinData : rows) {
+            futures.add(executorService.submit(() -> geocode(publicBinData)));
+        }
+
+        List<ProcessedBinData> processedBins = new ArrayList<>(rows.size());
+        for (Future<ProcessedBinData> future : futures) {
+            processedBins.add(await(future));
+        }
+        return processedBins;
+    }
+
+    private void logChunk(Long jobId, BinImportJob binImportJob) {
+        log.info("쓰레기통 데이터 청크 적재 완료. jobId = {}, rowsRead = {}, geocoded = {}, failed = {}, inserted = {}, "
+                        + "duplicates = {}, unchanged = {}", jobId, binImportJob.getRowsRead(),
+                binImportJob.getGeocodedCount(), binImportJob.getFailedCount(), binImportJob.getInsertedCount(),
+                binImportJob.getDuplicateCount(), binImportJob.getUnchangedCount());
+    }
+
+    private ProcessedBinData geocode(PublicBinData publicBinData) throws InterruptedException {
+        geocodeRateLimiter.acquire();
+        return kakaoMapService.getProcessBin(publicBinData);
+    }
 
-    public void saveInitialDate(String path){
-        List<PublicBinData> initialData = ExcelDataExtractor.createInitialData(path);
-        List<ProcessedBinData> processData = kakaoMapService.getProcessedBins(initialData);
-        binBatchInsertRepository.batchInsertInitialBins(processData);
+    private ProcessedBinData await(Future<ProcessedBinData> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주소 검색 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("주소 검색에 실패했습니다.", e.getCause());
+        }
     }
 }
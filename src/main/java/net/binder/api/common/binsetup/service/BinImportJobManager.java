@@ -0,0 +1,73 @@
+package net.binder.api.common.binsetup.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.common.binsetup.dto.BinInsertResult;
+import net.binder.api.common.binsetup.entity.BinImportJob;
+import net.binder.api.common.binsetup.entity.BinImportMode;
+import net.binder.api.common.binsetup.repository.BinBatchInsertRepository;
+import net.binder.api.common.binsetup.repository.BinImportJobRepository;
+import net.binder.api.common.exception.NotFoundException;
+import net.binder.api.common.kakaomap.dto.ProcessedBinData;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class BinImportJobManager {
+
+    private static final int MAX_FAILURE_MESSAGE_LENGTH = 1000;
+
+    private final BinImportJobRepository binImportJobRepository;
+
+    private final BinBatchInsertRepository binBatchInsertRepository;
+
+    // 같은 파일, 같은 방식으로 완료되지 않은 작업이 있다면 마지막으로 커밋된 청크 이후부터 이어서 진행한다.
+    // 경로가 같아도 파일이 교체되었다면 행 번호가 가리키는 행이 달라지므로 처음부터 다시 적재한다.
+    @Transactional
+    public BinImportJob startOrResume(String sourcePath, String sourceFingerprint, BinImportMode mode) {
+        return binImportJobRepository.findFirstBySourcePathOrderByIdDesc(sourcePath)
+                .filter(binImportJob -> binImportJob.isResumableWith(sourceFingerprint, mode))
+                .map(binImportJob -> {
+                    binImportJob.resume();
+                    return binImportJob;
+                })
+                .orElseGet(() -> binImportJobRepository.save(new BinImportJob(sourcePath, sourceFingerprint, mode)));
+    }
+
+    // 청크의 쓰레기통 추가와 진행 상황 갱신을 한 트랜잭션으로 묶는다.
+    @Transactional
+    public BinImportJob commitChunk(Long jobId, List<ProcessedBinData> processedBins, long lastRow,
+                                    long failedCount) {
+        BinImportJob binImportJob = getBinImportJob(jobId);
+
+        BinInsertResult insertResult = binBatchInsertRepository.batchInsertInitialBins(processedBins);
+        binImportJob.commitChunk(lastRow, processedBins.size(), failedCount, insertResult.getInsertedCount(),
+                insertResult.getDuplicateCount());
+
+        return binImportJob;
+    }
+
+    @Transactional
+    public void complete(Long jobId) {
+        getBinImportJob(jobId).complete();
+    }
+
+    @Transactional
+    public void fail(Long jobId, String failureMessage) {
+        String message = failureMessage == null ? null
+                : failureMessage.substring(0, Math.min(failureMessage.length(), MAX_FAILURE_MESSAGE_LENGTH));
+        getBinImportJob(jobId).fail(message);
+    }
+
+    @Transactional(readOnly = true)
+    public BinImportJob getBinImportJob(Long jobId) {
+        return binImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 적재 작업입니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public List<BinImportJob> getRecentBinImportJobs() {
+        return binImportJobRepository.findTop20ByOrderByIdDesc();
+    }
+}
@@ -0,0 +1,148 @@
+package net.binder.api.common.binsetup.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.repository.BinRepository;
+import net.binder.api.bin.service.BinDetailCache;
+import net.binder.api.common.binsetup.dto.PublicBinData;
+import net.binder.api.common.binsetup.dto.PublicBinDiff;
+import net.binder.api.common.binsetup.entity.BinImportJob;
+import net.binder.api.common.binsetup.entity.PublicBinSnapshot;
+import net.binder.api.common.binsetup.repository.PublicBinSnapshotRepository;
+import net.binder.api.common.binsetup.util.PublicBinHasher;
+import net.binder.api.common.kakaomap.dto.ProcessedBinData;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 증분 적재: 원본 행의 내용 해시를 직전 스냅샷과 비교해 새 행만 주소 검색/추가하고, 사라진 행의 쓰레기통은 삭제한다.
+@Component
+@RequiredArgsConstructor
+public class PublicBinSyncManager {
+
+    private final PublicBinSnapshotRepository publicBinSnapshotRepository;
+
+    private final BinRepository binRepository;
+
+    private final BinImportJobManager binImportJobManager;
+
+    private final BinDetailCache binDetailCache;
+
+    @Transactional(readOnly = true)
+    public PublicBinDiff diff(List<PublicBinData> rows) {
+        Map<String, PublicBinSnapshot> snapshots = findSnapshots(rows.stream()
+                .map(PublicBinHasher::hash)
+                .toList());
+
+        List<PublicBinData> addedRows = new ArrayList<>();
+        List<String> unchangedHashes = new ArrayList<>();
+        for (PublicBinData row : rows) {
+            String hash = PublicBinHasher.hash(row);
+            if (snapshots.containsKey(hash)) {
+                unchangedHashes.add(hash);
+            } else {
+                addedRows.add(row);
+            }
+        }
+        return new PublicBinDiff(addedRows, unchangedHashes);
+    }
+
+    // 스냅샷 갱신, 쓰레기통 추가/복구, 진행 상황 갱신을 한 트랜잭션으로 묶는다.
+    // geocodedBins는 addedRows와 같은 순서이며 주소를 찾지 못한 행은 null이다.
+    @Transactional
+    public BinImportJob commitChunk(Long jobId, PublicBinDiff diff, List<ProcessedBinData> geocodedBins,
+                                    long lastRow) {
+        String sourcePath = binImportJobManager.getBinImportJob(jobId).getSourcePath();
+
+        for (PublicBinSnapshot snapshot : findSnapshots(diff.getUnchangedHashes()).values()) {
+            if (snapshot.isRemoved() && snapshot.hasBin()) {
+                findBin(snapshot)
+                        .filter(bin -> snapshot.isBinDeletedBySync(bin.getDeletedAt()))
+                        .ifPresent(this::restore);
+            }
+            snapshot.markSeen(sourcePath, jobId);
+        }
+
+        Map<String, PublicBinSnapshot> newSnapshots = new HashMap<>();
+        List<ProcessedBinData> addedBins = new ArrayList<>();
+        for (int i = 0; i < diff.getAddedRows().size(); i++) {
+            String hash = PublicBinHasher.hash(diff.getAddedRows().get(i));
+            if (newSnapshots.containsKey(hash)) { // 원본 안에서 중복된 행
+                continue;
+            }
+            PublicBinSnapshot snapshot = new PublicBinSnapshot(hash, sourcePath, jobId);
+            ProcessedBinData processedBinData = geocodedBins.get(i);
+            if (processedBinData != null) {
+                snapshot.linkBin(processedBinData);
+                addedBins.add(processedBinData);
+            }
+            newSnapshots.put(hash, snapshot);
+        }
+        publicBinSnapshotRepository.saveAll(newSnapshots.values());
+
+        long failedCount = geocodedBins.stream().filter(processedBinData -> processedBinData == null).count();
+        BinImportJob binImportJob = binImportJobManager.commitChunk(jobId, addedBins, lastRow, failedCount);
+        binImportJob.recordUnchanged(diff.getUnchangedHashes().size());
+
+        return binImportJob;
+    }
+
+    // 같은 원본 파일에서 이번 작업에 보이지 않은 행을 limit개씩 삭제 처리하고, 처리한 행 수를 반환한다.
+    // 다른 파일에서 온 행은 이 파일에 없더라도 삭제하지 않는다.
+    @Transactional
+    public int removeUnseen(Long jobId, int limit) {
+        BinImportJob binImportJob = binImportJobManager.getBinImportJob(jobId);
+        List<PublicBinSnapshot> unseen = publicBinSnapshotRepository
+                .findBySourcePathAndLastSeenJobIdLessThanAndRemovedAtIsNull(binImportJob.getSourcePath(), jobId,
+                        PageRequest.of(0, limit));
+
+        unseen.forEach(PublicBinSnapshot::markRemoved);
+        for (PublicBinSnapshot snapshot : unseen) {
+            if (snapshot.hasBin() && !isLinkedByOtherRow(snapshot)) {
+                findBin(snapshot).ifPresent(bin -> softDelete(snapshot, bin));
+            }
+        }
+        binImportJob.recordRemoved(unseen.size());
+
+        return unseen.size();
+    }
+
+    // 이미 삭제된 쓰레기통은 동기화가 삭제한 것으로 기록하지 않는다.
+    private void softDelete(PublicBinSnapshot snapshot, Bin bin) {
+        if (bin.softDelete()) {
+            snapshot.markBinDeleted(bin.getDeletedAt());
+            binDetailCache.evict(bin.getId());
+        }
+    }
+
+    private void restore(Bin bin) {
+        bin.restore();
+        binDetailCache.evict(bin.getId());
+    }
+
+    private Map<String, PublicBinSnapshot> findSnapshots(List<String> hashes) {
+        if (hashes.isEmpty()) {
+            return Map.of();
+        }
+        return publicBinSnapshotRepository.findAllByContentHashIn(hashes)
+                .stream()
+                .collect(Collectors.toMap(PublicBinSnapshot::getContentHash, Function.identity()));
+    }
+
+    private boolean isLinkedByOtherRow(PublicBinSnapshot snapshot) {
+        return publicBinSnapshotRepository.existsByBinAddressAndBinTypeAndBinTitleAndRemovedAtIsNull(
+                snapshot.getBinAddress(), snapshot.getBinType(), snapshot.getBinTitle());
+    }
+
+    private Optional<Bin> findBin(PublicBinSnapshot snapshot) {
+        return binRepository.findByAddressAndTypeAndTitle(snapshot.getBinAddress(), snapshot.getBinType(),
+                snapshot.getBinTitle());
+    }
+}
@@ -0,0 +1,20 @@
+package net.binder.api.common.binsetup.util;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.function.Consumer;
+import net.binder.api.common.binsetup.dto.PublicBinData;
+
+// 공공 쓰레기통 데이터 파일을 한 행씩 읽어 넘겨준다. 파일 크기와 관계없이 일정한 메모리만 사용한다.
+public interface BinDataReader {
+
+    void read(Path path, Consumer<PublicBinData> consumer);
+
+    static BinDataReader of(Path path, Charset csvCharset) {
+        if (path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+            return new CsvBinDataReader(csvCharset);
+        }
+        return new XlsxBinDataReader();
+    }
+}
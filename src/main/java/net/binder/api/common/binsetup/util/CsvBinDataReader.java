@@ -0,0 +1,88 @@
+package net.binder.api.common.binsetup.util;
+
+import static net.binder.api.common.binsetup.util.ExcelDataExtractor.BIN_TYPE_COLUMN;
+import static net.binder.api.common.binsetup.util.ExcelDataExtractor.DETAILED_LOCATION_COLUMN;
+import static net.binder.api.common.binsetup.util.ExcelDataExtractor.DISTRICT_COLUMN;
+import static net.binder.api.common.binsetup.util.ExcelDataExtractor.ROAD_ADDRESS_COLUMN;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import net.binder.api.common.binsetup.dto.PublicBinData;
+
+// 엑셀과 같은 열 구성의 CSV 파일을 한 줄씩 읽는다. 첫 줄은 헤더로 보고 건너뛴다.
+public class CsvBinDataReader implements BinDataReader {
+
+    private static final int HEADER_LINES = 1;
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Charset charset;
+
+    public CsvBinDataReader(Charset charset) {
+        this.charset = charset;
+    }
+
+    @Override
+    public void read(Path path, Consumer<PublicBinData> consumer) {
+        try (BufferedReader reader = Files.newBufferedReader(path, charset)) {
+            String line;
+            int lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                if (lineNumber++ < HEADER_LINES || line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = parseLine(line);
+                if (fields.size() <= BIN_TYPE_COLUMN || fields.get(DISTRICT_COLUMN).isBlank()) {
+                    continue;
+                }
+                consumer.accept(ExcelDataExtractor.toPublicBinData(fields.get(DISTRICT_COLUMN),
+                        fields.get(ROAD_ADDRESS_COLUMN), fields.get(DETAILED_LOCATION_COLUMN),
+                        fields.get(BIN_TYPE_COLUMN)));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read CSV file", e);
+        }
+    }
+
+    // 큰따옴표로 감싼 필드 안의 쉼표와 두 번 연속된 큰따옴표("")를 처리한다.
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        int start = !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK ? 1 : 0;
+        for (int i = start; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+                continue;
+            }
+
+            if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
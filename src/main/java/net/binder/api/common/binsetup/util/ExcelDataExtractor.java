@@ -13,13 +13,14 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.StreamSupport;
 
+// 워크북 전체를 메모리에 올려 읽는다. 대용량 파일은 BinDataReader의 스트리밍 구현을 사용한다.
 public class ExcelDataExtractor {
 
-    private static final int HEADER_ROWS = 4;
-    private static final int DISTRICT_COLUMN = 1;
-    private static final int ROAD_ADDRESS_COLUMN = 2;
-    private static final int DETAILED_LOCATION_COLUMN = 3;
-    private static final int BIN_TYPE_COLUMN = 5;
+    static final int HEADER_ROWS = 4;
+    static final int DISTRICT_COLUMN = 1;
+    static final int ROAD_ADDRESS_COLUMN = 2;
+    static final int DETAILED_LOCATION_COLUMN = 3;
+    static final int BIN_TYPE_COLUMN = 5;
 
     public static List<PublicBinData> createInitialData(String path) {
 
@@ -38,14 +39,17 @@ public class ExcelDataExtractor {
         String district = row.getCell(DISTRICT_COLUMN).getStringCellValue();
         String roadNameAddress = row.getCell(ROAD_ADDRESS_COLUMN).getStringCellValue();
         String detailedAddress = row.getCell(DETAILED_LOCATION_COLUMN).getStringCellValue();
-
-        detailedAddress = removeEndSpace(detailedAddress);
         String type = row.getCell(BIN_TYPE_COLUMN).getStringCellValue();
 
+        return toPublicBinData(district, roadNameAddress, detailedAddress, type);
+    }
+
+    static PublicBinData toPublicBinData(String district, String roadNameAddress, String detailedAddress,
+                                        String type) {
         return PublicBinData.builder()
                 .type(getBinTypeFromString(type))
                 .address(district + " " + roadNameAddress)
-                .title(detailedAddress)
+                .title(removeEndSpace(detailedAddress))
                 .imageUrl(null)
                 .build();
     }
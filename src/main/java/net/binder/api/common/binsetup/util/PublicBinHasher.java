@@ -0,0 +1,30 @@
+package net.binder.api.common.binsetup.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import net.binder.api.common.binsetup.dto.PublicBinData;
+
+// 원본 행 내용의 SHA-256 해시. 앞뒤 공백과 연속된 공백 차이는 같은 내용으로 본다.
+public class PublicBinHasher {
+
+    private static final char SEPARATOR = '\u001F';
+
+    public static String hash(PublicBinData publicBinData) {
+        String content = normalize(publicBinData.getAddress()) + SEPARATOR
+                + normalize(publicBinData.getTitle()) + SEPARATOR
+                + publicBinData.getType() + SEPARATOR
+                + normalize(publicBinData.getImageUrl());
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().replaceAll("\\s+", " ");
+    }
+}
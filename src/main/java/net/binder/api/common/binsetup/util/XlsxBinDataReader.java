@@ -0,0 +1,97 @@
+package net.binder.api.common.binsetup.util;
+
+import static net.binder.api.common.binsetup.util.ExcelDataExtractor.BIN_TYPE_COLUMN;
+import static net.binder.api.common.binsetup.util.ExcelDataExtractor.DETAILED_LOCATION_COLUMN;
+import static net.binder.api.common.binsetup.util.ExcelDataExtractor.DISTRICT_COLUMN;
+import static net.binder.api.common.binsetup.util.ExcelDataExtractor.HEADER_ROWS;
+import static net.binder.api.common.binsetup.util.ExcelDataExtractor.ROAD_ADDRESS_COLUMN;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import javax.xml.parsers.ParserConfigurationException;
+import net.binder.api.common.binsetup.dto.PublicBinData;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+// POI의 SAX(event) API로 첫 번째 시트를 읽는다. 워크북 DOM을 만들지 않으므로 행 수와 관계없이 메모리 사용량이 일정하다.
+public class XlsxBinDataReader implements BinDataReader {
+
+    private static final int COLUMN_COUNT = BIN_TYPE_COLUMN + 1;
+
+    @Override
+    public void read(Path path, Consumer<PublicBinData> consumer) {
+        try (OPCPackage opcPackage = OPCPackage.open(path.toFile(), PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+
+            try (InputStream sheet = xssfReader.getSheetsData().next()) {
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new XSSFSheetXMLHandler(xssfReader.getStylesTable(), sharedStrings,
+                        new RowHandler(consumer), new DataFormatter(), false));
+                xmlReader.parse(new InputSource(sheet));
+            }
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new RuntimeException("Failed to read Excel file", e);
+        }
+    }
+
+    private static class RowHandler implements SheetContentsHandler {
+
+        private final Consumer<PublicBinData> consumer;
+
+        private final String[] cells = new String[COLUMN_COUNT];
+
+        private int currentColumn;
+
+        private RowHandler(Consumer<PublicBinData> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(cells, null);
+            currentColumn = -1;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // 셀 참조가 없는 경우 직전 셀의 다음 열로 본다.
+            currentColumn = cellReference == null ? currentColumn + 1 : new CellReference(cellReference).getCol();
+            if (currentColumn < COLUMN_COUNT) {
+                cells[currentColumn] = formattedValue;
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum < HEADER_ROWS || isBlank(cells[DISTRICT_COLUMN]) || isBlank(cells[ROAD_ADDRESS_COLUMN])) {
+                return;
+            }
+            consumer.accept(ExcelDataExtractor.toPublicBinData(cells[DISTRICT_COLUMN], cells[ROAD_ADDRESS_COLUMN],
+                    valueOrEmpty(cells[DETAILED_LOCATION_COLUMN]), valueOrEmpty(cells[BIN_TYPE_COLUMN])));
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isBlank();
+        }
+
+        private static String valueOrEmpty(String value) {
+            return value == null ? "" : value;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package net.binder.api.common.config;
+
+import static net.binder.api.common.resilience.OutboundCallGuard.KAKAO;
+import static net.binder.api.common.resilience.OutboundCallGuard.OPENAI;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 외부 API마다 동시 호출 수와 서킷 브레이커를 따로 두어 한쪽의 장애가 다른 요청으로 번지지 않게 한다.
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${resilience.openai.slow-call-ms:5000}") long openAiSlowCallMillis,
+            @Value("${resilience.kakao.slow-call-ms:2000}") long kakaoSlowCallMillis,
+            @Value("${resilience.wait-in-open-seconds:30}") long waitInOpenSeconds) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        registry.circuitBreaker(OPENAI, circuitBreakerConfig(openAiSlowCallMillis, waitInOpenSeconds));
+        registry.circuitBreaker(KAKAO, circuitBreakerConfig(kakaoSlowCallMillis, waitInOpenSeconds));
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry)
+                .bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${resilience.openai.max-concurrent-calls:10}") int openAiMaxConcurrentCalls,
+            @Value("${resilience.kakao.max-concurrent-calls:20}") int kakaoMaxConcurrentCalls,
+            @Value("${resilience.bulkhead-wait-ms:100}") long maxWaitMillis) {
+        BulkheadRegistry registry = BulkheadRegistry.ofDefaults();
+        registry.bulkhead(OPENAI, bulkheadConfig(openAiMaxConcurrentCalls, maxWaitMillis));
+        registry.bulkhead(KAKAO, bulkheadConfig(kakaoMaxConcurrentCalls, maxWaitMillis));
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry)
+                .bindTo(meterRegistry);
+        return registry;
+    }
+
+    // 실패하거나 느린 호출이 절반을 넘으면 열리고, 대기 시간이 지나면 몇 건만 흘려보내 회복 여부를 확인한다.
+    private static CircuitBreakerConfig circuitBreakerConfig(long slowCallMillis, long waitInOpenSeconds) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(50)
+                .slowCallRateThreshold(50)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMillis))
+                .waitDurationInOpenState(Duration.ofSeconds(waitInOpenSeconds))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .build();
+    }
+
+    private static BulkheadConfig bulkheadConfig(int maxConcurrentCalls, long maxWaitMillis) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMillis))
+                .build();
+    }
+}
@@ -1,26 +1,91 @@
 package net.binder.api.common.config;
 
+import java.nio.charset.StandardCharsets;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
-
+// 외부 API마다 커넥션 풀과 타임아웃을 따로 두고, 커넥션은 keep-alive로 재사용한다.
 @Configuration
 public class RestTemplateConfig {
 
+    private static final long IDLE_EVICT_SECONDS = 30;
+
+    private static final long CONNECTION_TTL_MINUTES = 5;
+
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return build(restTemplateBuilder, 30_000, 30_000, 20);
+    }
+
+    @Bean
+    public RestTemplate kakaoRestTemplate(
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${http.kakao.connect-timeout-ms:1000}") long connectTimeoutMillis,
+            @Value("${http.kakao.read-timeout-ms:3000}") long readTimeoutMillis,
+            @Value("${http.kakao.max-connections:20}") int maxConnections) {
+        return build(restTemplateBuilder, connectTimeoutMillis, readTimeoutMillis, maxConnections);
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder){
+    public RestTemplate openAiRestTemplate(
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${http.openai.connect-timeout-ms:2000}") long connectTimeoutMillis,
+            @Value("${http.openai.read-timeout-ms:15000}") long readTimeoutMillis,
+            @Value("${http.openai.max-connections:10}") int maxConnections) {
+        return build(restTemplateBuilder, connectTimeoutMillis, readTimeoutMillis, maxConnections);
+    }
+
+    private static RestTemplate build(RestTemplateBuilder restTemplateBuilder, long connectTimeoutMillis,
+                                      long readTimeoutMillis, int maxConnections) {
+        CloseableHttpClient httpClient = httpClient(connectTimeoutMillis, readTimeoutMillis, maxConnections);
+
         return restTemplateBuilder
-                .requestFactory(()->new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory()))
-                .setConnectTimeout(Duration.ofSeconds(30))
-                .setReadTimeout(Duration.ofSeconds(30))
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
                 .additionalMessageConverters(new StringHttpMessageConverter(StandardCharsets.UTF_8))
                 .build();
     }
+
+    // 클라이언트마다 대상 호스트가 하나이므로 호스트별 최대 커넥션 수와 전체 최대 커넥션 수를 같게 둔다.
+    private static CloseableHttpClient httpClient(long connectTimeoutMillis, long readTimeoutMillis,
+                                                  int maxConnections) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                .setTimeToLive(TimeValue.ofMinutes(CONNECTION_TTL_MINUTES))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        // 풀이 가득 찼을 때 커넥션을 기다리는 시간도 연결 타임아웃 안으로 제한한다.
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(IDLE_EVICT_SECONDS))
+                .build();
+    }
 }
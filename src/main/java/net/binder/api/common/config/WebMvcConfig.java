@@ -3,7 +3,10 @@ package net.binder.api.common.config;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import net.binder.api.common.resolver.CurrentUserArgumentResolver;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -13,6 +16,15 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
 
+    // 같은 검색 결과를 다시 내려받지 않도록 응답 본문 기반 ETag를 붙인다.
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> searchEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/search/bins", "/search/bins/*");
+        return registration;
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserArgumentResolver);
@@ -0,0 +1,14 @@
+package net.binder.api.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends BizException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -5,6 +5,8 @@ import java.util.Objects;
 import net.binder.api.common.dto.ErrorResponse;
 import net.binder.api.common.exception.BizException;
 import net.binder.api.common.exception.NotFoundException;
+import net.binder.api.common.exception.ServiceUnavailableException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -25,6 +27,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorResponse.from(message));
     }
 
+    // 외부 API 장애로 요청을 처리할 수 없는 경우 재시도 가능 시점을 함께 알려준다.
+    @ExceptionHandler
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ErrorResponse.from(e.getMessage()));
+    }
+
     @ExceptionHandler
     public ResponseEntity<ErrorResponse> handleBizException(BizException e) {
         HttpStatus httpStatus = null;
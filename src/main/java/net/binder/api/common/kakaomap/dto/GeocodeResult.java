@@ -0,0 +1,40 @@
+package net.binder.api.common.kakaomap.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 주소 검색 결과의 도로명 주소와 지번 주소 좌표. 주소가 존재하지 않는 경우도 캐시하기 위해 found로 구분한다.
+@Getter
+@RequiredArgsConstructor
+@Builder
+public class GeocodeResult {
+
+    private final boolean found;
+
+    private final Double roadLongitude;
+
+    private final Double roadLatitude;
+
+    private final String roadAddressName;
+
+    private final Double jibunLongitude;
+
+    private final Double jibunLatitude;
+
+    private final String jibunAddressName;
+
+    public static GeocodeResult notFound() {
+        return GeocodeResult.builder()
+                .found(false)
+                .build();
+    }
+
+    public boolean hasRoadAddress() {
+        return roadLongitude != null && roadLatitude != null;
+    }
+
+    public boolean hasJibunAddress() {
+        return jibunLongitude != null && jibunLatitude != null;
+    }
+}
@@ -0,0 +1,63 @@
+package net.binder.api.common.kakaomap.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.binder.api.common.entity.BaseEntity;
+import net.binder.api.common.kakaomap.dto.GeocodeResult;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "geocode_cache", indexes = @Index(name = "address_key_idx", columnList = "addressKey", unique = true))
+public class CachedGeocode extends BaseEntity {
+
+    @Column(length = 500, nullable = false)
+    private String addressKey;
+
+    private boolean found;
+
+    private Double roadLongitude;
+
+    private Double roadLatitude;
+
+    private String roadAddressName;
+
+    private Double jibunLongitude;
+
+    private Double jibunLatitude;
+
+    private String jibunAddressName;
+
+    private LocalDateTime expiresAt;
+
+    public CachedGeocode(String addressKey, GeocodeResult geocodeResult, LocalDateTime expiresAt) {
+        this.addressKey = addressKey;
+        update(geocodeResult, expiresAt);
+    }
+
+    public void update(GeocodeResult geocodeResult, LocalDateTime expiresAt) {
+        this.found = geocodeResult.isFound();
+        this.roadLongitude = geocodeResult.getRoadLongitude();
+        this.roadLatitude = geocodeResult.getRoadLatitude();
+        this.roadAddressName = geocodeResult.getRoadAddressName();
+        this.jibunLongitude = geocodeResult.getJibunLongitude();
+        this.jibunLatitude = geocodeResult.getJibunLatitude();
+        this.jibunAddressName = geocodeResult.getJibunAddressName();
+        this.expiresAt = expiresAt;
+    }
+
+    public GeocodeResult toGeocodeResult() {
+        return new GeocodeResult(found, roadLongitude, roadLatitude, roadAddressName, jibunLongitude, jibunLatitude,
+                jibunAddressName);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,10 @@
+package net.binder.api.common.kakaomap.repository;
+
+import java.util.Optional;
+import net.binder.api.common.kakaomap.entity.CachedGeocode;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CachedGeocodeRepository extends JpaRepository<CachedGeocode, Long> {
+
+    Optional<CachedGeocode> findByAddressKey(String addressKey);
+}
@@ -0,0 +1,170 @@
+package net.binder.api.common.kakaomap.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import net.binder.api.common.kakaomap.dto.GeocodeResult;
+import net.binder.api.common.kakaomap.entity.CachedGeocode;
+import net.binder.api.common.kakaomap.repository.CachedGeocodeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 메모리 LRU와 geocode_cache 테이블 두 단계로 주소 검색 결과를 캐시한다.
+@Component
+@Slf4j
+public class GeocodeCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int MAX_ADDRESS_KEY_LENGTH = 500;
+
+    private final CachedGeocodeRepository cachedGeocodeRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final boolean enabled;
+
+    private final boolean persistent;
+
+    private final long foundTtlSeconds;
+
+    private final long notFoundTtlSeconds;
+
+    private final Map<String, Entry> geocodes;
+
+    public GeocodeCache(CachedGeocodeRepository cachedGeocodeRepository,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${kakaomap.geocode-cache.enabled:true}") boolean enabled,
+                        @Value("${kakaomap.geocode-cache.persistent:false}") boolean persistent,
+                        @Value("${kakaomap.geocode-cache.max-size:10000}") int maxSize,
+                        @Value("${kakaomap.geocode-cache.found-ttl-seconds:2592000}") long foundTtlSeconds,
+                        @Value("${kakaomap.geocode-cache.not-found-ttl-seconds:86400}") long notFoundTtlSeconds) {
+        this.cachedGeocodeRepository = cachedGeocodeRepository;
+        // 쓰레기통 등록이 롤백되어도 주소 검색 결과는 남도록 별도 트랜잭션으로 저장한다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.hitCounter = Counter.builder("kakaomap.geocode.cache")
+                .tag("result", "hit")
+                .description("주소 검색 캐시 적중 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("kakaomap.geocode.cache")
+                .tag("result", "miss")
+                .description("주소 검색 캐시 미스 수 (실제 카카오맵 호출 수)")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.persistent = persistent;
+        this.foundTtlSeconds = foundTtlSeconds;
+        this.notFoundTtlSeconds = notFoundTtlSeconds;
+        this.geocodes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public Optional<GeocodeResult> get(String address) {
+        String key = normalize(address);
+        if (!enabled || key.length() > MAX_ADDRESS_KEY_LENGTH) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        Entry entry = geocodes.get(key);
+        if (entry != null && entry.isExpired(now)) {
+            geocodes.remove(key);
+            entry = null;
+        }
+        if (entry == null && persistent) {
+            entry = readPersisted(key, now);
+        }
+
+        if (entry == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(entry.geocodeResult);
+    }
+
+    // 존재하지 않는 주소는 나중에 등록될 수 있으므로 짧게 캐시한다.
+    public void put(String address, GeocodeResult geocodeResult) {
+        String key = normalize(address);
+        if (!enabled || key.length() > MAX_ADDRESS_KEY_LENGTH) {
+            return;
+        }
+        long ttlSeconds = geocodeResult.isFound() ? foundTtlSeconds : notFoundTtlSeconds;
+        Entry entry = new Entry(geocodeResult, LocalDateTime.now().plusSeconds(ttlSeconds));
+
+        geocodes.put(key, entry);
+
+        if (persistent) {
+            persist(key, entry);
+        }
+    }
+
+    // 앞뒤 공백, 연속된 공백, 전각 문자의 차이는 같은 주소로 본다.
+    static String normalize(String address) {
+        String normalized = Normalizer.normalize(address, Normalizer.Form.NFKC);
+        return WHITESPACE.matcher(normalized.strip()).replaceAll(" ");
+    }
+
+    private Entry readPersisted(String key, LocalDateTime now) {
+        try {
+            Optional<CachedGeocode> cachedGeocode = cachedGeocodeRepository.findByAddressKey(key)
+                    .filter(geocode -> !geocode.isExpired(now));
+            if (cachedGeocode.isEmpty()) {
+                return null;
+            }
+            Entry entry = new Entry(cachedGeocode.get().toGeocodeResult(), cachedGeocode.get().getExpiresAt());
+            geocodes.put(key, entry);
+            return entry;
+        } catch (RuntimeException e) {
+            log.error("주소 검색 결과 조회에 실패했습니다.", e);
+            return null;
+        }
+    }
+
+    private void persist(String key, Entry entry) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> cachedGeocodeRepository.findByAddressKey(key)
+                    .ifPresentOrElse(
+                            cachedGeocode -> cachedGeocode.update(entry.geocodeResult, entry.expiresAt),
+                            () -> cachedGeocodeRepository.save(
+                                    new CachedGeocode(key, entry.geocodeResult, entry.expiresAt))));
+        } catch (RuntimeException e) {
+            log.error("주소 검색 결과 저장에 실패했습니다.", e);
+        }
+    }
+
+    private static class Entry {
+
+        private final GeocodeResult geocodeResult;
+
+        private final LocalDateTime expiresAt;
+
+        private Entry(GeocodeResult geocodeResult, LocalDateTime expiresAt) {
+            this.geocodeResult = geocodeResult;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
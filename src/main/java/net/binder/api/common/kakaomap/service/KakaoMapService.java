@@ -2,12 +2,14 @@ package net.binder.api.common.kakaomap.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.binder.api.bin.util.PointUtil;
 import net.binder.api.common.binsetup.dto.PublicBinData;
 import net.binder.api.common.exception.BadRequestException;
+import net.binder.api.common.kakaomap.dto.GeocodeResult;
 import net.binder.api.common.kakaomap.dto.ProcessedBinData;
+import net.binder.api.common.resilience.OutboundCallGuard;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.locationtech.jts.geom.Point;
 import org.springframework.http.RequestEntity;
@@ -17,9 +19,9 @@ import org.springframework.web.client.RestTemplate;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class KakaoMapService {
     private static final String SEARCH_URL = "https://dapi.kakao.com/v2/local/search/address.json?";
@@ -30,6 +32,16 @@ public class KakaoMapService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final OutboundCallGuard outboundCallGuard;
+    private final GeocodeCache geocodeCache;
+
+    public KakaoMapService(@Qualifier("kakaoRestTemplate") RestTemplate restTemplate, ObjectMapper objectMapper,
+                           OutboundCallGuard outboundCallGuard, GeocodeCache geocodeCache) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.outboundCallGuard = outboundCallGuard;
+        this.geocodeCache = geocodeCache;
+    }
 
     public List<ProcessedBinData> getProcessedBins(List<PublicBinData> list) {
         return list.parallelStream()
@@ -39,29 +51,44 @@ public class KakaoMapService {
     }
 
     public Point getPoint(String address) {
-        String body = fetchDataFromApi(address);
-        JsonNode document = parseDocument(body);
+        GeocodeResult geocodeResult = geocode(address);
 
-        if(document==null){
+        if (!geocodeResult.isFound()) {
             throw new BadRequestException("입력된 주소는 존재하지 않습니다.");
         }
 
-        JsonNode roadAddressNode = getNode(document, "road_address");
-        JsonNode addressNode = getNode(document, "address");
-
-        if (!roadAddressNode.isEmpty() && addressNode.path("x").asText().isBlank()) {
-            return PointUtil.getPoint(getX(roadAddressNode), getY(roadAddressNode));
+        if (geocodeResult.hasRoadAddress() && !geocodeResult.hasJibunAddress()) {
+            return PointUtil.getPoint(geocodeResult.getRoadLongitude(), geocodeResult.getRoadLatitude());
+        }
+        if (!geocodeResult.hasJibunAddress()) {
+            throw new BadRequestException("입력된 주소는 존재하지 않습니다.");
         }
-        return PointUtil.getPoint(getX(addressNode), getY(addressNode));
+        return PointUtil.getPoint(geocodeResult.getJibunLongitude(), geocodeResult.getJibunLatitude());
     }
 
     public ProcessedBinData getProcessBin(PublicBinData initialBinData) {
-        String body = fetchDataFromApi(initialBinData.getAddress());
-        JsonNode document = parseDocument(body);
-        if (document == null) {
+        GeocodeResult geocodeResult = geocode(initialBinData.getAddress());
+        if (!geocodeResult.isFound()) {
             return null;
         }
-        return getBinInfo(initialBinData, document);
+        return getBinInfo(initialBinData, geocodeResult);
+    }
+
+    // 같은 주소를 다시 검색하는 경우 카카오맵을 호출하지 않는다. 응답을 읽지 못한 경우는 캐시하지 않는다.
+    private GeocodeResult geocode(String address) {
+        Optional<GeocodeResult> cached = geocodeCache.get(address);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String body = fetchDataFromApi(address);
+        GeocodeResult geocodeResult = parseGeocodeResult(body);
+        if (geocodeResult == null) {
+            return GeocodeResult.notFound();
+        }
+
+        geocodeCache.put(address, geocodeResult);
+        return geocodeResult;
     }
 
     private String fetchDataFromApi(String address) {
@@ -69,41 +96,69 @@ public class KakaoMapService {
                 .get(SEARCH_URL + QUERY_PARAM + address)
                 .header("Authorization", KAKAO_MAP_KEY)
                 .build();
-        return restTemplate.exchange(req, String.class).getBody();
+        return outboundCallGuard.call(OutboundCallGuard.KAKAO,
+                () -> restTemplate.exchange(req, String.class).getBody());
     }
 
-    private JsonNode parseDocument(String body) {
+    private GeocodeResult parseGeocodeResult(String body) {
         try {
             JsonNode rootNode = objectMapper.readTree(body);
             JsonNode documentsNode = rootNode.path("documents");
-            if (documentsNode.isArray() && !documentsNode.isEmpty()) {
-                return documentsNode.get(0);
+            if (!documentsNode.isArray()) {
+                return null;
+            }
+            if (documentsNode.isEmpty()) {
+                return GeocodeResult.notFound();
             }
-        } catch (IOException | NumberFormatException e) {
+            return toGeocodeResult(documentsNode.get(0));
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
         }
-        return null;
     }
 
-    private ProcessedBinData getBinInfo(PublicBinData initialBinData, JsonNode document) {
+    private GeocodeResult toGeocodeResult(JsonNode document) {
         JsonNode roadAddressNode = getNode(document, "road_address");
         JsonNode addressNode = getNode(document, "address");
 
-        if (!roadAddressNode.isEmpty() && !addressNode.path("x").asText().isBlank()) {
-            return ProcessedBinData.from(initialBinData, getX(roadAddressNode), getY(roadAddressNode), getNode(roadAddressNode, "address_name").asText());
-        }
+        return GeocodeResult.builder()
+                .found(true)
+                .roadLongitude(getX(roadAddressNode))
+                .roadLatitude(getY(roadAddressNode))
+                .roadAddressName(getNode(roadAddressNode, "address_name").asText(null))
+                .jibunLongitude(getX(addressNode))
+                .jibunLatitude(getY(addressNode))
+                .jibunAddressName(getNode(addressNode, "address_name").asText(null))
+                .build();
+    }
 
-        return ProcessedBinData.from(initialBinData, getX(addressNode), getY(addressNode), getNode(addressNode, "address_name").asText());
+    private ProcessedBinData getBinInfo(PublicBinData initialBinData, GeocodeResult geocodeResult) {
+        if (geocodeResult.hasRoadAddress() && geocodeResult.hasJibunAddress()) {
+            return ProcessedBinData.from(initialBinData, geocodeResult.getRoadLongitude(),
+                    geocodeResult.getRoadLatitude(), geocodeResult.getRoadAddressName());
+        }
+        if (!geocodeResult.hasJibunAddress()) {
+            return null;
+        }
+        return ProcessedBinData.from(initialBinData, geocodeResult.getJibunLongitude(),
+                geocodeResult.getJibunLatitude(), geocodeResult.getJibunAddressName());
     }
 
     private static JsonNode getNode(JsonNode document, String title) {
         return document.path(title);
     }
 
-    private double getY(JsonNode addressNode) {
-        return Double.parseDouble(addressNode.path("y").asText());
+    private Double getY(JsonNode addressNode) {
+        return parseCoordinate(addressNode.path("y").asText());
+    }
+
+    private Double getX(JsonNode addressNode) {
+        return parseCoordinate(addressNode.path("x").asText());
     }
 
-    private double getX(JsonNode addressNode) {
-        return Double.parseDouble(addressNode.path("x").asText());
+    private Double parseCoordinate(String coordinate) {
+        if (coordinate.isBlank()) {
+            return null;
+        }
+        return Double.parseDouble(coordinate);
     }
 }
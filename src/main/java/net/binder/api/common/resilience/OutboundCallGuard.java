@@ -0,0 +1,70 @@
+package net.binder.api.common.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.binder.api.common.exception.ServiceUnavailableException;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OutboundCallGuard {
+
+    public static final String OPENAI = "openai";
+
+    public static final String KAKAO = "kakao";
+
+    private static final long RETRY_AFTER_SECONDS = 30;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    private final MeterRegistry meterRegistry;
+
+    // 서킷이 열려 있거나 동시 호출 수가 가득 찼다면 외부 API를 호출하지 않고 바로 거절한다.
+    public <T> T call(String name, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw reject(name, "circuit_open");
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            throw reject(name, "bulkhead_full");
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private ServiceUnavailableException reject(String name, String reason) {
+        log.warn("외부 API 호출이 거절되었습니다. name = {}, reason = {}", name, reason);
+        Counter.builder("outbound.call.rejected")
+                .tag("name", name)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+
+        return new ServiceUnavailableException("외부 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해 주세요.",
+                RETRY_AFTER_SECONDS);
+    }
+}
@@ -0,0 +1,24 @@
+package net.binder.api.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 키별 변경 횟수. 키를 고정된 수의 칸에 나누어 담으므로 메모리가 늘지 않으며, 같은 칸의 다른 키가 바뀌어도 증가한다.
+// 캐시 적재 전에 값을 읽어 두고 적재 후 다시 비교하면, 그 사이에 일어난 변경을 놓치지 않는다.
+public class StripedVersion {
+
+    private static final int STRIPES = 1024;
+
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+
+    public long get(long key) {
+        return versions.get(stripe(key));
+    }
+
+    public void increment(long key) {
+        versions.incrementAndGet(stripe(key));
+    }
+
+    private int stripe(long key) {
+        return Long.hashCode(key) & (STRIPES - 1);
+    }
+}
@@ -2,6 +2,7 @@ package net.binder.api.complaint.service;
 
 import lombok.RequiredArgsConstructor;
 import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.service.BinDetailCache;
 import net.binder.api.bin.service.BinService;
 import net.binder.api.common.exception.BadRequestException;
 import net.binder.api.complaint.entity.Complaint;
@@ -28,6 +29,8 @@ public class ComplaintService {
 
     private final BinService binService;
 
+    private final BinDetailCache binDetailCache;
+
     public Complaint createComplaint(String email, Long binId, ComplaintType type) {
 
         Member member = memberService.findByEmail(email);
@@ -40,6 +43,7 @@ public class ComplaintService {
         ComplaintInfo complaintInfo = new ComplaintInfo(complaint, member, type);
         complaintInfoRepository.save(complaintInfo);
         complaint.increaseCount();
+        binDetailCache.evict(binId);
 
         return complaint;
     }
@@ -0,0 +1,17 @@
+package net.binder.api.filtering.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class OpenAiBatchRequest {
+    private final String model;
+    private final List<OpenAiBatchMessage> messages;
+
+    public OpenAiBatchRequest(String model, List<String> targets) {
+        this.model = model;
+        this.messages = new ArrayList<>();
+        this.messages.add(new OpenAiBatchMessage("user", targets));
+    }
+}
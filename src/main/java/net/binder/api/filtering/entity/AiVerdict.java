@@ -0,0 +1,45 @@
+package net.binder.api.filtering.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.binder.api.common.entity.BaseEntity;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "text_hash_idx", columnList = "textHash", unique = true))
+public class AiVerdict extends BaseEntity {
+
+    @Column(length = 64, nullable = false)
+    private String textHash;
+
+    private boolean isCurse;
+
+    @Column(length = 1000)
+    private String words;
+
+    private LocalDateTime expiresAt;
+
+    public AiVerdict(String textHash, boolean isCurse, String words, LocalDateTime expiresAt) {
+        this.textHash = textHash;
+        this.isCurse = isCurse;
+        this.words = words;
+        this.expiresAt = expiresAt;
+    }
+
+    public void update(boolean isCurse, String words, LocalDateTime expiresAt) {
+        this.isCurse = isCurse;
+        this.words = words;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
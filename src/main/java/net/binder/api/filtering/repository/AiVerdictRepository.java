@@ -0,0 +1,10 @@
+package net.binder.api.filtering.repository;
+
+import java.util.Optional;
+import net.binder.api.filtering.entity.AiVerdict;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AiVerdictRepository extends JpaRepository<AiVerdict, Long> {
+
+    Optional<AiVerdict> findByTextHash(String textHash);
+}
@@ -24,6 +24,13 @@ public class CurseQueryRepository {
                 .fetch();
     }
 
+    public List<String> findAllWords() {
+        return jpaQueryFactory
+                .select(curse.word)
+                .from(curse)
+                .fetch();
+    }
+
     public List<String> findExistingWords(List<String> words) {
         return jpaQueryFactory
                 .select(curse.word)
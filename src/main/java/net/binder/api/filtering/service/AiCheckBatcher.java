@@ -0,0 +1,231 @@
+package net.binder.api.filtering.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.binder.api.common.resilience.OutboundCallGuard;
+import net.binder.api.filtering.dto.CurseCheckResult;
+import net.binder.api.filtering.dto.OpenAiBatchRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.RequestEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+// 짧은 시간 동안 모인 검증 요청을 하나의 프롬프트로 묶어 AI에게 보내고 결과를 각 요청자에게 나눠준다.
+@Component
+@Slf4j
+public class AiCheckBatcher {
+
+    private final RestTemplate restTemplate;
+
+    private final String openAiUrl;
+
+    private final String openAiModel;
+
+    private final String openAiKey;
+
+    private final ObjectMapper objectMapper;
+
+    private final OutboundCallGuard outboundCallGuard;
+
+    private final boolean enabled;
+
+    private final int maxSize;
+
+    private final long maxWaitMillis;
+
+    // 타이머만 돌리는 스케줄러와 블로킹 HTTP 호출을 하는 전송 스레드를 나눠, 느린 응답이 다음 묶음의 타이머를 밀지 않게 한다.
+    private final ScheduledExecutorService scheduler;
+
+    private final ExecutorService sender;
+
+    private final Object lock = new Object();
+
+    private List<PendingCheck> pendingChecks = new ArrayList<>();
+
+    private long batchSequence = 0;
+
+    public AiCheckBatcher(
+            @Qualifier("openAiRestTemplate") RestTemplate restTemplate,
+            @Value("${openai.api.url}") String openAiUrl,
+            @Value("${openai.model}") String openAiModel,
+            @Value("${openai.api.key}") String openAiKey, ObjectMapper objectMapper,
+            OutboundCallGuard outboundCallGuard,
+            @Value("${filtering.ai-batch.enabled:false}") boolean enabled,
+            @Value("${filtering.ai-batch.max-size:20}") int maxSize,
+            @Value("${filtering.ai-batch.max-wait-ms:50}") long maxWaitMillis,
+            @Value("${filtering.ai-batch.sender-threads:2}") int senderThreads) {
+        this.restTemplate = restTemplate;
+        this.openAiUrl = openAiUrl;
+        this.openAiModel = openAiModel;
+        this.openAiKey = openAiKey;
+        this.objectMapper = objectMapper;
+        this.outboundCallGuard = outboundCallGuard;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(newThreadFactory("ai-check-batcher-timer-"));
+        this.sender = Executors.newFixedThreadPool(senderThreads, newThreadFactory("ai-check-batcher-sender-"));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 묶음이 가득 차면 바로, 그렇지 않으면 첫 요청으로부터 maxWaitMillis 이후에 전송한다.
+    public CompletableFuture<CurseCheckResult> check(String target) {
+        PendingCheck pendingCheck = new PendingCheck(target, new CompletableFuture<>());
+        List<PendingCheck> batch = null;
+
+        synchronized (lock) {
+            pendingChecks.add(pendingCheck);
+
+            if (pendingChecks.size() >= maxSize) {
+                batch = drain();
+            } else if (pendingChecks.size() == 1) {
+                long sequence = batchSequence;
+                scheduler.schedule(() -> flush(sequence), maxWaitMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (batch != null) {
+            List<PendingCheck> fullBatch = batch;
+            sender.execute(() -> send(fullBatch));
+        }
+        return pendingCheck.getFuture();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        sender.shutdown();
+    }
+
+    private void flush(long sequence) {
+        List<PendingCheck> batch;
+
+        synchronized (lock) {
+            // 기다리는 동안 묶음이 가득 차 이미 전송되었다면 새 묶음의 타이머가 따로 있다.
+            if (sequence != batchSequence || pendingChecks.isEmpty()) {
+                return;
+            }
+            batch = drain();
+        }
+        sender.execute(() -> send(batch));
+    }
+
+    private List<PendingCheck> drain() {
+        List<PendingCheck> batch = pendingChecks;
+        pendingChecks = new ArrayList<>();
+        batchSequence++;
+        return batch;
+    }
+
+    private void send(List<PendingCheck> batch) {
+        try {
+            List<String> targets = batch.stream()
+                    .map(PendingCheck::getTarget)
+                    .toList();
+
+            log.debug("AI 묶음 검증을 시작합니다. size = {}", targets.size());
+            String body = outboundCallGuard.call(OutboundCallGuard.OPENAI,
+                    () -> restTemplate.exchange(getOpenAiRequest(targets), String.class).getBody());
+
+            complete(batch, getVerdicts(body));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("AI 묶음 검증에 실패했습니다. size = {}", batch.size(), e);
+            batch.forEach(pendingCheck -> pendingCheck.getFuture().completeExceptionally(e));
+        }
+    }
+
+    private void complete(List<PendingCheck> batch, JsonNode verdicts) {
+        CurseCheckResult[] results = new CurseCheckResult[batch.size()];
+        boolean[] duplicated = new boolean[batch.size()];
+
+        for (JsonNode verdict : verdicts) {
+            JsonNode indexNode = verdict.path("index");
+            if (!indexNode.isInt()) {
+                continue;
+            }
+            int index = indexNode.asInt();
+            if (index < 0 || index >= results.length) {
+                continue;
+            }
+            // 같은 번호가 두 번 오면 어느 쪽이 해당 문장의 결과인지 알 수 없으므로 결과가 없는 것으로 본다.
+            if (results[index] != null) {
+                duplicated[index] = true;
+                continue;
+            }
+            List<String> words = new ArrayList<>();
+            verdict.path("words").forEach(word -> words.add(word.asText()));
+
+            results[index] = new CurseCheckResult(verdict.path("isCurse").asBoolean(), words, true);
+        }
+
+        for (int index = 0; index < results.length; index++) {
+            CompletableFuture<CurseCheckResult> future = batch.get(index).getFuture();
+
+            // 응답에서 빠지거나 중복된 문장은 호출한 쪽에서 단건으로 다시 검증한다.
+            if (results[index] == null || duplicated[index]) {
+                future.completeExceptionally(new IllegalStateException("AI 묶음 응답에 문장 결과가 없습니다. index = " + index));
+                continue;
+            }
+            future.complete(results[index]);
+        }
+    }
+
+    private RequestEntity<OpenAiBatchRequest> getOpenAiRequest(List<String> targets) {
+        return RequestEntity
+                .post(openAiUrl)
+                .header("Authorization", "Bearer " + openAiKey)
+                .body(new OpenAiBatchRequest(openAiModel, targets));
+    }
+
+    private JsonNode getVerdicts(String body) throws JsonProcessingException {
+        JsonNode root = objectMapper.readTree(body);
+
+        String content = root.path("choices")
+                .path(0)
+                .path("message")
+                .path("content")
+                .asText();
+
+        JsonNode verdicts = objectMapper.readTree(content);
+        if (!verdicts.isArray()) {
+            throw new IllegalStateException("AI 묶음 응답이 JSON 배열이 아닙니다.");
+        }
+        return verdicts;
+    }
+
+    private static ThreadFactory newThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingCheck {
+
+        private final String target;
+
+        private final CompletableFuture<CurseCheckResult> future;
+    }
+}
@@ -4,9 +4,16 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
+import net.binder.api.common.exception.ServiceUnavailableException;
+import net.binder.api.common.resilience.OutboundCallGuard;
 import net.binder.api.filtering.dto.CurseCheckResult;
 import net.binder.api.filtering.dto.OpenAiRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.RequestEntity;
 import org.springframework.stereotype.Component;
@@ -26,29 +33,45 @@ public class AiCheckManager {
 
     private final ObjectMapper objectMapper;
 
+    private final AiVerdictCache aiVerdictCache;
+
+    private final AiCheckBatcher aiCheckBatcher;
+
+    private final OutboundCallGuard outboundCallGuard;
+
+    private final long batchTimeoutMillis;
 
     public AiCheckManager(
-            RestTemplate restTemplate,
+            @Qualifier("openAiRestTemplate") RestTemplate restTemplate,
             @Value("${openai.api.url}") String openAiUrl,
             @Value("${openai.model}") String openAiModel,
-            @Value("${openai.api.key}") String openAiKey, ObjectMapper objectMapper) {
+            @Value("${openai.api.key}") String openAiKey, ObjectMapper objectMapper,
+            AiVerdictCache aiVerdictCache,
+            AiCheckBatcher aiCheckBatcher,
+            OutboundCallGuard outboundCallGuard,
+            @Value("${filtering.ai-batch.timeout-ms:30000}") long batchTimeoutMillis) {
         this.restTemplate = restTemplate;
         this.openAiUrl = openAiUrl;
         this.openAiModel = openAiModel;
         this.openAiKey = openAiKey;
         this.objectMapper = objectMapper;
+        this.aiVerdictCache = aiVerdictCache;
+        this.aiCheckBatcher = aiCheckBatcher;
+        this.outboundCallGuard = outboundCallGuard;
+        this.batchTimeoutMillis = batchTimeoutMillis;
     }
 
     public CurseCheckResult requestAiCheck(String target) throws JsonProcessingException {
-        log.debug("AI 검증을 시작합니다. target = {}", target);
-        RequestEntity<OpenAiRequest> request = getOpenAiRequest(
-                target);
-
-        String body = restTemplate.exchange(request, String.class).getBody();
+        // 같은 본문에 대한 판정 결과가 있다면 AI를 다시 호출하지 않는다.
+        Optional<CurseCheckResult> cached = aiVerdictCache.get(target);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
-        CurseCheckResult curseCheckResult = getCurseCheckResult(body); // GPT의 검증 결과
+        CurseCheckResult curseCheckResult = requestCheck(target); // GPT의 검증 결과
 
         if (!curseCheckResult.getIsCurse()) {
+            aiVerdictCache.put(target, curseCheckResult);
             return curseCheckResult;
         }
 
@@ -56,13 +79,41 @@ public class AiCheckManager {
 
         if (isMatched(target, words)) { // target(본문)이 AI가 찾아낸 욕설을 포함하고 있는 경우
             log.debug("GPT 정상 target = {}, words = {}", target, String.join(",", words));
+            aiVerdictCache.put(target, curseCheckResult);
             return curseCheckResult;
         }
-        // 포함하지 않을 경우
+        // 포함하지 않을 경우. 잘못된 응답이므로 캐시하지 않는다.
         log.error("GPT 오류 target = {}, words = {}", target, String.join(",", words));
         return new CurseCheckResult(false, List.of(), true);
     }
 
+    // 묶음 검증이 실패하거나 응답에서 빠진 경우 단건으로 다시 요청한다.
+    private CurseCheckResult requestCheck(String target) throws JsonProcessingException {
+        if (aiCheckBatcher.isEnabled()) {
+            try {
+                return aiCheckBatcher.check(target)
+                        .get(batchTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("AI 묶음 검증 대기 중 인터럽트가 발생했습니다.", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ServiceUnavailableException serviceUnavailableException) {
+                    throw serviceUnavailableException; // 서킷이 열려 있다면 단건 요청도 거절된다.
+                }
+                log.warn("AI 묶음 검증 결과를 받지 못해 단건으로 요청합니다. target = {}", target);
+            } catch (TimeoutException e) {
+                log.warn("AI 묶음 검증 결과를 받지 못해 단건으로 요청합니다. target = {}", target);
+            }
+        }
+        log.debug("AI 검증을 시작합니다. target = {}", target);
+        RequestEntity<OpenAiRequest> request = getOpenAiRequest(
+                target);
+
+        String body = outboundCallGuard.call(OutboundCallGuard.OPENAI,
+                () -> restTemplate.exchange(request, String.class).getBody());
+
+        return getCurseCheckResult(body);
+    }
 
     private RequestEntity<OpenAiRequest> getOpenAiRequest(String target) {
         return RequestEntity
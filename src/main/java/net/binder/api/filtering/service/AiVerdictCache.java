@@ -0,0 +1,212 @@
+package net.binder.api.filtering.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import net.binder.api.filtering.dto.CurseCheckResult;
+import net.binder.api.filtering.entity.AiVerdict;
+import net.binder.api.filtering.repository.AiVerdictRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@Slf4j
+public class AiVerdictCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String WORD_DELIMITER = ",";
+
+    private static final int MAX_SIZE_OF_VERDICTS = 10_000;
+
+    private final AiVerdictRepository aiVerdictRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final boolean enabled;
+
+    private final boolean persistent;
+
+    private final long cleanTtlSeconds;
+
+    private final long curseTtlSeconds;
+
+    private final Map<String, Entry> verdicts = new ConcurrentHashMap<>();
+
+    public AiVerdictCache(AiVerdictRepository aiVerdictRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${filtering.ai-cache.enabled:true}") boolean enabled,
+                          @Value("${filtering.ai-cache.persistent:false}") boolean persistent,
+                          @Value("${filtering.ai-cache.clean-ttl-seconds:86400}") long cleanTtlSeconds,
+                          @Value("${filtering.ai-cache.curse-ttl-seconds:2592000}") long curseTtlSeconds) {
+        this.aiVerdictRepository = aiVerdictRepository;
+        // 댓글 작성이 롤백되어도 AI 판정 결과는 남도록 별도 트랜잭션으로 저장한다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.hitCounter = Counter.builder("filtering.ai.verdict.cache")
+                .tag("result", "hit")
+                .description("AI 욕설 판정 캐시 적중 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("filtering.ai.verdict.cache")
+                .tag("result", "miss")
+                .description("AI 욕설 판정 캐시 미스 수 (실제 AI 호출 수)")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.persistent = persistent;
+        this.cleanTtlSeconds = cleanTtlSeconds;
+        this.curseTtlSeconds = curseTtlSeconds;
+    }
+
+    public Optional<CurseCheckResult> get(String target) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String key = toKey(target);
+        LocalDateTime now = LocalDateTime.now();
+
+        Entry entry = verdicts.get(key);
+        if (entry != null && entry.isExpired(now)) {
+            verdicts.remove(key, entry);
+            entry = null;
+        }
+        if (entry == null && persistent) {
+            entry = readPersisted(key, now);
+        }
+
+        if (entry == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(new CurseCheckResult(entry.isCurse, wordsIn(target, entry.words), true));
+    }
+
+    public void put(String target, CurseCheckResult curseCheckResult) {
+        if (!enabled) {
+            return;
+        }
+        String key = toKey(target);
+        long ttlSeconds = curseCheckResult.isCurse() ? curseTtlSeconds : cleanTtlSeconds;
+        Entry entry = new Entry(curseCheckResult.isCurse(), List.copyOf(curseCheckResult.getWords()),
+                LocalDateTime.now().plusSeconds(ttlSeconds));
+
+        store(key, entry);
+
+        if (persistent) {
+            persist(key, entry);
+        }
+    }
+
+    // 공백, 대소문자, 한글 자모 조합 방식의 차이는 같은 본문으로 본다.
+    static String normalize(String target) {
+        String decomposed = Normalizer.normalize(target, Normalizer.Form.NFKD);
+        return WHITESPACE.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    // 같은 키라도 공백이나 대소문자가 다른 본문일 수 있으므로, 저장된 단어 중 이번 본문에 실제로 있는 것만 돌려준다.
+    private List<String> wordsIn(String target, List<String> words) {
+        String normalizedTarget = normalize(target);
+        List<String> result = new ArrayList<>();
+        for (String word : words) {
+            if (normalizedTarget.contains(normalize(word))) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    private String toKey(String target) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(normalize(target).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void store(String key, Entry entry) {
+        if (verdicts.size() >= MAX_SIZE_OF_VERDICTS) {
+            verdicts.clear();
+        }
+        verdicts.put(key, entry);
+    }
+
+    private Entry readPersisted(String key, LocalDateTime now) {
+        try {
+            Optional<AiVerdict> aiVerdict = aiVerdictRepository.findByTextHash(key)
+                    .filter(verdict -> !verdict.isExpired(now));
+            if (aiVerdict.isEmpty()) {
+                return null;
+            }
+            Entry entry = new Entry(aiVerdict.get().isCurse(), toWords(aiVerdict.get().getWords()),
+                    aiVerdict.get().getExpiresAt());
+            store(key, entry);
+            return entry;
+        } catch (RuntimeException e) {
+            log.error("AI 판정 결과 조회에 실패했습니다.", e);
+            return null;
+        }
+    }
+
+    private void persist(String key, Entry entry) {
+        String words = String.join(WORD_DELIMITER, entry.words);
+        try {
+            transactionTemplate.executeWithoutResult(status -> aiVerdictRepository.findByTextHash(key)
+                    .ifPresentOrElse(
+                            aiVerdict -> aiVerdict.update(entry.isCurse, words, entry.expiresAt),
+                            () -> aiVerdictRepository.save(
+                                    new AiVerdict(key, entry.isCurse, words, entry.expiresAt))));
+        } catch (RuntimeException e) {
+            log.error("AI 판정 결과 저장에 실패했습니다.", e);
+        }
+    }
+
+    private List<String> toWords(String words) {
+        if (words == null || words.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(words.split(WORD_DELIMITER));
+    }
+
+    private static class Entry {
+
+        private final boolean isCurse;
+
+        private final List<String> words;
+
+        private final LocalDateTime expiresAt;
+
+        private Entry(boolean isCurse, List<String> words, LocalDateTime expiresAt) {
+            this.isCurse = isCurse;
+            this.words = words;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
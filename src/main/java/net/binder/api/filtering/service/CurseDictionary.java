@@ -0,0 +1,107 @@
+package net.binder.api.filtering.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import net.binder.api.filtering.repository.CurseQueryRepository;
+import net.binder.api.filtering.util.CurseAutomaton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@Slf4j
+public class CurseDictionary {
+
+    private final CurseQueryRepository curseQueryRepository;
+
+    private final boolean enabled;
+
+    private volatile Set<String> words = Set.of();
+
+    private volatile CurseAutomaton automaton = new CurseAutomaton(List.of());
+
+    private volatile boolean ready = false;
+
+    public CurseDictionary(CurseQueryRepository curseQueryRepository,
+                           @Value("${filtering.curse-dictionary.enabled:false}") boolean enabled) {
+        this.curseQueryRepository = curseQueryRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    // 다른 인스턴스에서 추가된 욕설을 반영하기 위해 주기적으로 다시 적재한다.
+    @Scheduled(fixedDelayString = "${filtering.curse-dictionary.reload-interval-ms:300000}",
+            initialDelayString = "${filtering.curse-dictionary.reload-interval-ms:300000}")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            load(curseQueryRepository.findAllWords());
+        } catch (RuntimeException e) {
+            log.error("욕설 사전 적재에 실패했습니다.", e);
+        }
+    }
+
+    public void load(List<String> curseWords) {
+        Set<String> newWords = new HashSet<>(curseWords);
+        CurseAutomaton newAutomaton = new CurseAutomaton(newWords);
+
+        synchronized (this) {
+            words = newWords;
+            automaton = newAutomaton;
+            ready = true;
+        }
+        log.info("욕설 사전 적재 완료. size = {}", newAutomaton.size());
+    }
+
+    // 사전이 비활성화 상태이거나 적재 전이라면 DB 검색을 사용한다.
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public List<String> findWords(String target) {
+        return automaton.findWords(target);
+    }
+
+    // AI가 찾아낸 새 욕설이 저장되면 커밋 이후 사전에 더해 다시 만든다.
+    public void addWords(List<String> newCurseWords) {
+        if (!enabled || newCurseWords.isEmpty()) {
+            return;
+        }
+        List<String> addedWords = List.copyOf(newCurseWords);
+        afterCommit(() -> {
+            synchronized (this) {
+                Set<String> newWords = new HashSet<>(words);
+                if (!newWords.addAll(addedWords)) {
+                    return;
+                }
+                words = newWords;
+                automaton = new CurseAutomaton(newWords);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -13,6 +13,8 @@ public class CurseManager {
 
     private final CurseRepository curseRepository;
 
+    private final CurseDictionary curseDictionary;
+
     @Transactional
     public void addWords(List<String> newCurseWords) {
 
@@ -21,5 +23,6 @@ public class CurseManager {
                 .toList();
 
         curseRepository.saveAll(newCurses);
+        curseDictionary.addWords(newCurseWords);
     }
 }
@@ -12,8 +12,14 @@ public class CurseReader {
 
     private final CurseQueryRepository curseQueryRepository;
 
+    private final CurseDictionary curseDictionary;
+
+    // 메모리의 욕설 사전이 준비되어 있다면 DB를 조회하지 않는다.
     @Transactional(readOnly = true)
     public List<String> readWordsInTarget(String target) {
+        if (curseDictionary.isReady()) {
+            return curseDictionary.findWords(target);
+        }
         return curseQueryRepository.findWordsInSentence(target);
     }
 
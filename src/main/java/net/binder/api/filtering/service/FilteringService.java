@@ -3,6 +3,7 @@ package net.binder.api.filtering.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import net.binder.api.common.exception.ServiceUnavailableException;
 import net.binder.api.filtering.dto.CurseCheckResult;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +36,23 @@ public class FilteringService {
         }
 
         // DB에서 검증을 못한 경우 AI에게 검증 요청
+        try {
+            return checkCurseByAi(target);
+        } catch (ServiceUnavailableException e) {
+            // AI 호출이 차단된 동안에는 사전 검증 결과만으로 판단한다.
+            log.warn("AI 검증을 사용할 수 없어 사전 검증 결과만 사용합니다. target = {}", target);
+            return new CurseCheckResult(false, List.of(), false);
+        }
+    }
+
+    // 사전 검증만 수행한다. AI 검증은 호출하는 쪽에서 필요할 때 따로 요청한다.
+    @Transactional(readOnly = true)
+    public List<String> checkCurseByDictionary(String target) {
+        return curseReader.readWordsInTarget(target);
+    }
+
+    @Transactional
+    public CurseCheckResult checkCurseByAi(String target) throws JsonProcessingException {
         CurseCheckResult curseCheckResult = aiCheckManager.requestAiCheck(target);
 
         // 욕설이 없는 경우 결과 그대로 반환
@@ -0,0 +1,97 @@
+package net.binder.api.filtering.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+// 욕설 사전 전체를 본문에 대해 한 번의 순회로 찾는 Aho-Corasick 오토마톤. 생성 이후에는 변경되지 않는다.
+// 기존 LIKE 검색(기본 콜레이션)과 같이 영문 대소문자를 구분하지 않는다.
+public class CurseAutomaton {
+
+    private final Node root = new Node();
+
+    private final int size;
+
+    public CurseAutomaton(Collection<String> words) {
+        int count = 0;
+        for (String word : words) {
+            if (word == null || word.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (char c : word.toCharArray()) {
+                node = node.children.computeIfAbsent(normalize(c), key -> new Node());
+            }
+            if (node.outputs.isEmpty()) {
+                count++;
+            }
+            node.outputs.add(word);
+        }
+        this.size = count;
+        linkFailures();
+    }
+
+    public List<String> findWords(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        Node node = root;
+
+        for (char original : text.toCharArray()) {
+            char c = normalize(original);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.failure;
+            }
+            node = node.children.getOrDefault(c, root);
+            found.addAll(node.outputs);
+        }
+        return new ArrayList<>(found);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 글자 단위로 바꾸므로 본문과 사전의 길이가 달라지지 않는다.
+    private static char normalize(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    private void linkFailures() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+
+                Node failure = node.failure;
+                while (failure != root && !failure.children.containsKey(c)) {
+                    failure = failure.failure;
+                }
+                child.failure = failure.children.getOrDefault(c, root);
+                // 접미사로 끝나는 단어도 함께 찾을 수 있도록 실패 노드의 출력을 합친다.
+                child.outputs.addAll(child.failure.outputs);
+                queue.add(child);
+            }
+        }
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+
+        private final List<String> outputs = new ArrayList<>();
+
+        private Node failure;
+    }
+}
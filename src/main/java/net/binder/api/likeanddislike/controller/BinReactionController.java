@@ -0,0 +1,32 @@
+package net.binder.api.likeanddislike.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.common.annotation.CurrentUser;
+import net.binder.api.likeanddislike.dto.BinReactionRequest;
+import net.binder.api.likeanddislike.dto.BinReactionResponse;
+import net.binder.api.likeanddislike.service.BinReactionService;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/bins")
+@Tag(name = "쓰레기통 좋아요")
+public class BinReactionController {
+
+    private final BinReactionService binReactionService;
+
+    @Operation(summary = "쓰레기통 반응 변경",
+            description = "LIKE, DISLIKE, NONE 중 원하는 상태로 바꾸고 변경 후 좋아요/싫어요 수를 반환합니다. 같은 상태로 다시 요청해도 오류가 발생하지 않습니다.")
+    @PutMapping("/{id}/reaction")
+    public BinReactionResponse react(@CurrentUser String email, @PathVariable("id") Long id,
+                                     @Valid @RequestBody BinReactionRequest request) {
+        return binReactionService.react(email, id, request.getReaction());
+    }
+}
@@ -0,0 +1,15 @@
+package net.binder.api.likeanddislike.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class BinReactionDelta {
+
+    private final Long binId;
+
+    private final long likeDelta;
+
+    private final long dislikeDelta;
+}
@@ -0,0 +1,18 @@
+package net.binder.api.likeanddislike.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import net.binder.api.likeanddislike.entity.BinReaction;
+
+@Getter
+public class BinReactionRequest {
+
+    @JsonCreator
+    public BinReactionRequest(BinReaction reaction) {
+        this.reaction = reaction;
+    }
+
+    @NotNull
+    private final BinReaction reaction;
+}
@@ -0,0 +1,20 @@
+package net.binder.api.likeanddislike.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.likeanddislike.entity.BinReaction;
+
+@Getter
+@RequiredArgsConstructor
+@Builder
+public class BinReactionResponse {
+
+    private final Long binId;
+
+    private final BinReaction reaction;
+
+    private final Long likeCount;
+
+    private final Long dislikeCount;
+}
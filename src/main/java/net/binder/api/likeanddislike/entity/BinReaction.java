@@ -0,0 +1,5 @@
+package net.binder.api.likeanddislike.entity;
+
+public enum BinReaction {
+    LIKE, DISLIKE, NONE
+}
@@ -2,8 +2,10 @@ package net.binder.api.likeanddislike.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,6 +17,9 @@ import net.binder.api.member.entity.Member;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        indexes = @Index(name = "uk_member_dislike_bin_member_id_bin_id", columnList = "member_id, bin_id", unique = true)
+)
 public class MemberDislikeBin extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
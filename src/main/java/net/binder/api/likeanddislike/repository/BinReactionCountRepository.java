@@ -0,0 +1,80 @@
+package net.binder.api.likeanddislike.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.likeanddislike.dto.BinReactionDelta;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// bin 행의 좋아요/싫어요 수를 원자적인 UPDATE로만 변경한다. 엔티티를 읽어 고친 뒤 쓰는 방식의 갱신 손실이 없다.
+@Repository
+@RequiredArgsConstructor
+public class BinReactionCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManager entityManager;
+
+    // 커밋될 때까지 bin 행을 잠근다.
+    public void lockBin(Long binId) {
+        jdbcTemplate.queryForList("SELECT id FROM bin WHERE id = ? FOR UPDATE", Long.class, binId);
+    }
+
+    // 현재 트랜잭션 안에서 바로 반영하고, 같은 영속성 컨텍스트의 엔티티가 옛 값을 보지 않도록 다시 읽는다.
+    public void addCounts(Bin bin, long likeDelta, long dislikeDelta) {
+        jdbcTemplate.update("""
+                UPDATE bin SET like_count = like_count + ?, dislike_count = dislike_count + ?
+                WHERE id = ?
+                """, likeDelta, dislikeDelta, bin.getId());
+        entityManager.refresh(bin);
+    }
+
+    public void addCounts(List<BinReactionDelta> deltas) {
+        jdbcTemplate.batchUpdate("""
+                        UPDATE bin SET like_count = like_count + ?, dislike_count = dislike_count + ?
+                        WHERE id = ?
+                        """, deltas, deltas.size(),
+                (ps, delta) -> {
+                    ps.setLong(1, delta.getLikeDelta());
+                    ps.setLong(2, delta.getDislikeDelta());
+                    ps.setLong(3, delta.getBinId());
+                });
+    }
+
+    // member_like_bin, member_dislike_bin을 기준으로 [fromId, toId] 범위의 어긋난 수를 다시 계산한다.
+    // pending은 아직 반영되지 않은 증감분으로, 반응 행에는 이미 세어져 있으므로 다시 계산한 값에서 뺀다.
+    public int reconcile(long fromId, long toId, List<BinReactionDelta> pending) {
+        List<Object> args = new ArrayList<>(List.of(fromId, toId, fromId, toId));
+        StringBuilder pendingRows = new StringBuilder("SELECT 0 AS bin_id, 0 AS like_delta, 0 AS dislike_delta");
+        for (BinReactionDelta delta : pending) {
+            pendingRows.append(" UNION ALL SELECT ?, ?, ?");
+            args.add(delta.getBinId());
+            args.add(delta.getLikeDelta());
+            args.add(delta.getDislikeDelta());
+        }
+        args.add(fromId);
+        args.add(toId);
+
+        return jdbcTemplate.update("""
+                UPDATE bin b
+                  LEFT JOIN (SELECT bin_id, COUNT(*) AS cnt FROM member_like_bin
+                             WHERE bin_id BETWEEN ? AND ? GROUP BY bin_id) l ON l.bin_id = b.id
+                  LEFT JOIN (SELECT bin_id, COUNT(*) AS cnt FROM member_dislike_bin
+                             WHERE bin_id BETWEEN ? AND ? GROUP BY bin_id) d ON d.bin_id = b.id
+                  LEFT JOIN (%s) p ON p.bin_id = b.id
+                SET b.like_count = COALESCE(l.cnt, 0) - COALESCE(p.like_delta, 0),
+                    b.dislike_count = COALESCE(d.cnt, 0) - COALESCE(p.dislike_delta, 0)
+                WHERE b.id BETWEEN ? AND ?
+                  AND (b.like_count <> COALESCE(l.cnt, 0) - COALESCE(p.like_delta, 0)
+                       OR b.dislike_count <> COALESCE(d.cnt, 0) - COALESCE(p.dislike_delta, 0))
+                """.formatted(pendingRows), args.toArray());
+    }
+
+    public long findMaxBinId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM bin", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+}
@@ -0,0 +1,35 @@
+package net.binder.api.likeanddislike.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// member_like_bin, member_dislike_bin에 (member_id, bin_id) 유니크 인덱스를 추가하기 위한 스키마 작업.
+// 테이블과 인덱스 이름은 코드에 고정된 값만 받는다.
+@Repository
+@RequiredArgsConstructor
+public class MemberBinReactionIndexRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean existsIndex(String table, String index) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+                """, Integer.class, table, index);
+        return count != null && count > 0;
+    }
+
+    // 같은 회원, 같은 쓰레기통의 반응 중 가장 먼저 만들어진(id가 가장 작은) 행만 남기고, 삭제한 행 수를 반환한다.
+    public int deleteDuplicates(String table) {
+        return jdbcTemplate.update("""
+                DELETE duplicate FROM %s duplicate
+                  JOIN %s kept ON kept.member_id = duplicate.member_id AND kept.bin_id = duplicate.bin_id
+                               AND kept.id < duplicate.id
+                """.formatted(table, table));
+    }
+
+    public void createUniqueIndex(String table, String index) {
+        jdbcTemplate.execute("CREATE UNIQUE INDEX %s ON %s (member_id, bin_id)".formatted(index, table));
+    }
+}
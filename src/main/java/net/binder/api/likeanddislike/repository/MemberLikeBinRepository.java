@@ -1,7 +1,11 @@
 package net.binder.api.likeanddislike.repository;
 
+import java.util.Collection;
+import java.util.List;
 import net.binder.api.likeanddislike.entity.MemberLikeBin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface MemberLikeBinRepository extends JpaRepository<MemberLikeBin, Long> {
 
@@ -9,5 +13,28 @@ public interface MemberLikeBinRepository extends JpaRepository<MemberLikeBin, Lo
     void deleteMemberLikeBinByMember_IdAndBin_Id(Long memberId, Long binId);
 
     boolean existsByMember_IdAndBin_Id(Long memberId, Long binId);
-}
 
+    // (member_id, bin_id) 유니크 인덱스에 막히면 0을 반환한다.
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT IGNORE INTO member_like_bin (member_id, bin_id, created_at, modified_at)
+            VALUES (:memberId, :binId, NOW(6), NOW(6))
+            """, nativeQuery = true)
+    int insertIfAbsent(Long memberId, Long binId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM MemberLikeBin mlb WHERE mlb.member.id = :memberId AND mlb.bin.id = :binId")
+    int deleteByMemberIdAndBinId(Long memberId, Long binId);
+
+    @Query("""
+            SELECT mlb.bin.id FROM MemberLikeBin mlb
+            where mlb.member.id = :memberId
+            """)
+    List<Long> findBinIdsByMemberId(Long memberId);
+
+    @Query("""
+            SELECT mlb.bin.id FROM MemberLikeBin mlb
+            where mlb.member.id = :memberId and mlb.bin.id in :binIds
+            """)
+    List<Long> findBinIdsByMemberIdAndBinIdIn(Long memberId, Collection<Long> binIds);
+}
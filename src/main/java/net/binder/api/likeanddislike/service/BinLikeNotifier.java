@@ -0,0 +1,107 @@
+package net.binder.api.likeanddislike.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinRegistration;
+import net.binder.api.bin.repository.BinRepository;
+import net.binder.api.member.entity.Member;
+import net.binder.api.member.repository.MemberRepository;
+import net.binder.api.notification.entity.NotificationType;
+import net.binder.api.notification.service.NotificationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 좋아요 알림은 요청 트랜잭션이 커밋된 뒤 별도 스레드에서 보낸다. 대기열이 가득 차면 알림을 건너뛴다.
+@Component
+@Slf4j
+public class BinLikeNotifier {
+
+    private final MemberRepository memberRepository;
+
+    private final BinRepository binRepository;
+
+    private final NotificationService notificationService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ThreadPoolExecutor executor;
+
+    public BinLikeNotifier(MemberRepository memberRepository,
+                           BinRepository binRepository,
+                           NotificationService notificationService,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${bin.like-notification.queue-capacity:1000}") int queueCapacity) {
+        this.memberRepository = memberRepository;
+        this.binRepository = binRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "bin-like-notifier");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void notifyLiked(Long senderId, Long binId) {
+        afterCommit(() -> {
+            try {
+                executor.execute(() -> send(senderId, binId));
+            } catch (RejectedExecutionException e) {
+                log.warn("좋아요 알림 대기열이 가득 차 알림을 건너뜁니다. senderId = {}, binId = {}", senderId, binId);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 좋아요를 취소했다가 다시 누른 경우에는 알림을 다시 보내지 않는다.
+    private void send(Long senderId, Long binId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Member sender = memberRepository.findById(senderId).orElse(null);
+                Bin bin = binRepository.findById(binId).orElse(null);
+                if (sender == null || bin == null || notificationService.hasLikeNotification(sender, bin)) {
+                    return;
+                }
+                notificationService.sendNotification(sender, getReceiver(bin), bin, NotificationType.BIN_LIKED,
+                        null);
+            });
+        } catch (RuntimeException e) {
+            log.error("좋아요 알림 전송에 실패했습니다. senderId = {}, binId = {}", senderId, binId, e);
+        }
+    }
+
+    private Member getReceiver(Bin bin) {
+        BinRegistration binRegistration = bin.getBinRegistration();
+        if (binRegistration == null) {
+            return null;
+        }
+        return binRegistration.getMember();
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
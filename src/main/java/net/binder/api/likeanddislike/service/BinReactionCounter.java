@@ -0,0 +1,203 @@
+package net.binder.api.likeanddislike.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.service.BinDetailCache;
+import net.binder.api.likeanddislike.dto.BinReactionDelta;
+import net.binder.api.likeanddislike.repository.BinReactionCountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 쓰레기통 좋아요/싫어요 수를 원자적인 UPDATE로 반영한다. 기본은 요청 트랜잭션 안에서 바로 반영하고,
+// 모아 쓰기를 켜면 메모리에 모았다가 주기적으로 반영해 좋아요가 몰려도 bin 행을 매번 잠그지 않는다.
+// 정확한 값은 member_like_bin, member_dislike_bin 행에서 아직 반영되지 않은 증감분을 뺀 값이며,
+// 반영 전 서버가 종료되어 생긴 차이는 재계산 작업이 바로잡는다.
+@Component
+@Slf4j
+public class BinReactionCounter {
+
+    private static final long RECONCILE_RANGE = 1000;
+
+    private final BinReactionCountRepository binReactionCountRepository;
+
+    private final BinDetailCache binDetailCache;
+
+    private final boolean enabled;
+
+    private final Map<Long, Delta> deltas = new ConcurrentHashMap<>();
+
+    public BinReactionCounter(BinReactionCountRepository binReactionCountRepository,
+                              BinDetailCache binDetailCache,
+                              @Value("${bin.reaction-counter.write-behind.enabled:false}") boolean enabled) {
+        this.binReactionCountRepository = binReactionCountRepository;
+        this.binDetailCache = binDetailCache;
+        this.enabled = enabled;
+    }
+
+    public void increaseLike(Bin bin) {
+        if (!enabled) {
+            addCounts(bin, 1, 0);
+            return;
+        }
+        afterCommit(() -> delta(bin.getId()).likes.increment());
+    }
+
+    public void decreaseLike(Bin bin) {
+        if (!enabled) {
+            addCounts(bin, -1, 0);
+            return;
+        }
+        afterCommit(() -> delta(bin.getId()).likes.decrement());
+    }
+
+    public void increaseDislike(Bin bin) {
+        if (!enabled) {
+            addCounts(bin, 0, 1);
+            return;
+        }
+        afterCommit(() -> delta(bin.getId()).dislikes.increment());
+    }
+
+    public void decreaseDislike(Bin bin) {
+        if (!enabled) {
+            addCounts(bin, 0, -1);
+            return;
+        }
+        afterCommit(() -> delta(bin.getId()).dislikes.decrement());
+    }
+
+    // 바로 반영하는 경우 반응 행을 쓰기 전에 bin 행을 먼저 잠근다. 반응 행 INSERT의 외래 키 검사가 bin 행에
+    // 공유 잠금을 걸기 때문에, 수를 나중에 증감하면 같은 쓰레기통에 동시에 반응한 트랜잭션끼리 교착 상태에 빠진다.
+    // 모아 쓰기에서는 요청 트랜잭션이 bin 행을 갱신하지 않으므로 잠그지 않는다.
+    public void lockBeforeReaction(Bin bin) {
+        if (enabled) {
+            return;
+        }
+        binReactionCountRepository.lockBin(bin.getId());
+    }
+
+    // 아직 반영되지 않은 증감분과 이번 요청의 증감분(커밋 후 더해짐)까지 포함한 현재 수
+    public long likeCountAfter(Bin bin, long likeDelta) {
+        if (!enabled) { // 반영 직후 엔티티를 다시 읽었다.
+            return bin.getLikeCount();
+        }
+        Delta delta = deltas.get(bin.getId());
+        return bin.getLikeCount() + likeDelta + (delta == null ? 0 : delta.likes.sum());
+    }
+
+    public long dislikeCountAfter(Bin bin, long dislikeDelta) {
+        if (!enabled) {
+            return bin.getDislikeCount();
+        }
+        Delta delta = deltas.get(bin.getId());
+        return bin.getDislikeCount() + dislikeDelta + (delta == null ? 0 : delta.dislikes.sum());
+    }
+
+    // 쓰레기통마다 UPDATE 한 번으로 모아 둔 증감분을 반영한다. 실패하면 증감분을 되돌려 다음 주기에 다시 시도한다.
+    @Scheduled(fixedDelayString = "${bin.reaction-counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (!enabled || deltas.isEmpty()) {
+            return;
+        }
+        List<BinReactionDelta> pending = new ArrayList<>();
+        deltas.forEach((binId, delta) -> {
+            long likeDelta = delta.likes.sumThenReset();
+            long dislikeDelta = delta.dislikes.sumThenReset();
+            if (likeDelta != 0 || dislikeDelta != 0) {
+                pending.add(new BinReactionDelta(binId, likeDelta, dislikeDelta));
+            }
+        });
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            binReactionCountRepository.addCounts(pending);
+            pending.forEach(reactionDelta -> binDetailCache.evict(reactionDelta.getBinId()));
+        } catch (RuntimeException e) {
+            log.warn("쓰레기통 좋아요/싫어요 수 반영에 실패했습니다. bins = {}", pending.size(), e);
+            pending.forEach(reactionDelta -> {
+                Delta delta = delta(reactionDelta.getBinId());
+                delta.likes.add(reactionDelta.getLikeDelta());
+                delta.dislikes.add(reactionDelta.getDislikeDelta());
+            });
+        }
+    }
+
+    // 반영되지 않은 증감분을 먼저 쓴 뒤 정확한 값으로 다시 계산한다.
+    @Scheduled(cron = "${bin.reaction-counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        flush();
+
+        long maxBinId = binReactionCountRepository.findMaxBinId();
+        int fixedCount = 0;
+        for (long fromId = 1; fromId <= maxBinId; fromId += RECONCILE_RANGE) {
+            fixedCount += reconcile(fromId, fromId + RECONCILE_RANGE - 1);
+        }
+        if (fixedCount > 0) {
+            log.info("쓰레기통 좋아요/싫어요 수를 다시 계산했습니다. fixedBins = {}", fixedCount);
+        }
+    }
+
+    // 재계산 도중 커밋된 반응은 반응 행으로 세어지면서 증감분으로도 남아 있다. 범위를 다시 계산하는 동안 반영을 막고,
+    // 남아 있는 증감분을 다시 계산한 값에서 빼 두어 나중에 반영될 때 두 번 더해지지 않게 한다.
+    // 커밋된 뒤 증감분이 기록되기 전의 아주 짧은 틈에 걸친 반응만 다음 재계산까지 어긋날 수 있다.
+    private synchronized int reconcile(long fromId, long toId) {
+        List<BinReactionDelta> pending = new ArrayList<>();
+        deltas.forEach((binId, delta) -> {
+            if (binId < fromId || binId > toId) {
+                return;
+            }
+            long likeDelta = delta.likes.sum();
+            long dislikeDelta = delta.dislikes.sum();
+            if (likeDelta != 0 || dislikeDelta != 0) {
+                pending.add(new BinReactionDelta(binId, likeDelta, dislikeDelta));
+            }
+        });
+        return binReactionCountRepository.reconcile(fromId, toId, pending);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void addCounts(Bin bin, long likeDelta, long dislikeDelta) {
+        binReactionCountRepository.addCounts(bin, likeDelta, dislikeDelta);
+        binDetailCache.evict(bin.getId());
+    }
+
+    private Delta delta(Long binId) {
+        return deltas.computeIfAbsent(binId, key -> new Delta());
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // LongAdder는 내부적으로 셀을 나누어 더하므로 같은 쓰레기통에 동시에 반응해도 경합하지 않는다.
+    private static class Delta {
+
+        private final LongAdder likes = new LongAdder();
+
+        private final LongAdder dislikes = new LongAdder();
+    }
+}
@@ -0,0 +1,99 @@
+package net.binder.api.likeanddislike.service;
+
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.service.BinService;
+import net.binder.api.bin.service.MemberBinFlagCache;
+import net.binder.api.likeanddislike.dto.BinReactionResponse;
+import net.binder.api.likeanddislike.entity.BinReaction;
+import net.binder.api.likeanddislike.repository.MemberDislikeBinRepository;
+import net.binder.api.likeanddislike.repository.MemberLikeBinRepository;
+import net.binder.api.member.service.MemberService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 좋아요/싫어요/없음 중 원하는 상태로 바꾼다. 이전 상태를 따로 조회하지 않고
+// 반대 반응 삭제와 목표 반응 추가(INSERT IGNORE)의 영향받은 행 수로 알아낸다.
+@Service
+@RequiredArgsConstructor
+public class BinReactionService {
+
+    private final MemberService memberService;
+
+    private final BinService binService;
+
+    private final MemberLikeBinRepository memberLikeBinRepository;
+
+    private final MemberDislikeBinRepository memberDislikeBinRepository;
+
+    private final BinReactionCounter binReactionCounter;
+
+    private final BinLikeNotifier binLikeNotifier;
+
+    private final MemberBinFlagCache memberBinFlagCache;
+
+    @Transactional
+    public BinReactionResponse react(String email, Long binId, BinReaction reaction) {
+        Long memberId = memberService.findIdByEmail(email);
+        Bin bin = binService.findById(binId);
+        binReactionCounter.lockBeforeReaction(bin);
+
+        boolean wasLiked;
+        boolean wasDisliked;
+        switch (reaction) {
+            case LIKE -> {
+                wasDisliked = memberDislikeBinRepository.deleteByMemberIdAndBinId(memberId, binId) != 0;
+                wasLiked = memberLikeBinRepository.insertIfAbsent(memberId, binId) == 0;
+            }
+            case DISLIKE -> {
+                wasLiked = memberLikeBinRepository.deleteByMemberIdAndBinId(memberId, binId) != 0;
+                wasDisliked = memberDislikeBinRepository.insertIfAbsent(memberId, binId) == 0;
+            }
+            default -> {
+                wasLiked = memberLikeBinRepository.deleteByMemberIdAndBinId(memberId, binId) != 0;
+                wasDisliked = memberDislikeBinRepository.deleteByMemberIdAndBinId(memberId, binId) != 0;
+            }
+        }
+
+        long likeDelta = applyLike(bin, wasLiked, reaction == BinReaction.LIKE);
+        long dislikeDelta = applyDislike(bin, wasDisliked, reaction == BinReaction.DISLIKE);
+
+        if (likeDelta != 0 || dislikeDelta != 0) {
+            memberBinFlagCache.evict(memberId);
+        }
+        if (likeDelta > 0) {
+            binLikeNotifier.notifyLiked(memberId, binId);
+        }
+
+        return BinReactionResponse.builder()
+                .binId(binId)
+                .reaction(reaction)
+                .likeCount(binReactionCounter.likeCountAfter(bin, likeDelta))
+                .dislikeCount(binReactionCounter.dislikeCountAfter(bin, dislikeDelta))
+                .build();
+    }
+
+    private long applyLike(Bin bin, boolean wasLiked, boolean isLiked) {
+        if (wasLiked == isLiked) {
+            return 0;
+        }
+        if (isLiked) {
+            binReactionCounter.increaseLike(bin);
+            return 1;
+        }
+        binReactionCounter.decreaseLike(bin);
+        return -1;
+    }
+
+    private long applyDislike(Bin bin, boolean wasDisliked, boolean isDisliked) {
+        if (wasDisliked == isDisliked) {
+            return 0;
+        }
+        if (isDisliked) {
+            binReactionCounter.increaseDislike(bin);
+            return 1;
+        }
+        binReactionCounter.decreaseDislike(bin);
+        return -1;
+    }
+}
@@ -29,11 +29,11 @@ public class LikeAndDislikeFacade {
     }
 
     public void deleteLike(String email, Long binId){
-        Member member = memberService.findByEmail(email);
-        if (!memberLikeBinService.isLikeExist(member.getId(), binId)) {
+        Long memberId = memberService.findIdByEmail(email);
+        if (!memberLikeBinService.isLikeExist(memberId, binId)) {
             throw new BadRequestException("좋아요를 누르지 않았던 쓰레기통입니다.");
         }
-        memberLikeBinService.deleteLike(member.getId(), binId);
+        memberLikeBinService.deleteLike(memberId, binId);
     }
 
     public void createDislike(String email, Long binId){
@@ -51,11 +51,11 @@ public class LikeAndDislikeFacade {
     }
 
     public void deleteDislike(String email, Long binId){
-        Member member = memberService.findByEmail(email);
-        if (!memberDislikeBinService.isDislikeExist(member.getId(), binId)) {
+        Long memberId = memberService.findIdByEmail(email);
+        if (!memberDislikeBinService.isDislikeExist(memberId, binId)) {
             throw new BadRequestException("싫어요를 누르지 않았던 쓰레기통입니다.");
         }
-        memberDislikeBinService.deleteDisLike(member.getId(), binId);
+        memberDislikeBinService.deleteDisLike(memberId, binId);
     }
 
 }
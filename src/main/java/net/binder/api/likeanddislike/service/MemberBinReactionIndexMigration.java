@@ -0,0 +1,58 @@
+package net.binder.api.likeanddislike.service;
+
+import lombok.extern.slf4j.Slf4j;
+import net.binder.api.likeanddislike.repository.MemberBinReactionIndexRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 유니크 인덱스가 생기기 전에 쌓인 중복 반응이 있으면 스키마 자동 갱신이 인덱스를 만들지 못한다.
+// 서버가 요청을 받기 전에 중복 행을 지우고 인덱스를 만든 뒤, 어긋난 좋아요/싫어요 수를 다시 계산한다.
+// 인덱스가 이미 있으면 아무것도 하지 않는다.
+@Component
+@Slf4j
+public class MemberBinReactionIndexMigration implements SmartInitializingSingleton {
+
+    private static final String LIKE_TABLE = "member_like_bin";
+
+    private static final String LIKE_INDEX = "uk_member_like_bin_member_id_bin_id";
+
+    private static final String DISLIKE_TABLE = "member_dislike_bin";
+
+    private static final String DISLIKE_INDEX = "uk_member_dislike_bin_member_id_bin_id";
+
+    private final MemberBinReactionIndexRepository memberBinReactionIndexRepository;
+
+    private final BinReactionCounter binReactionCounter;
+
+    private final boolean enabled;
+
+    public MemberBinReactionIndexMigration(MemberBinReactionIndexRepository memberBinReactionIndexRepository,
+                                           BinReactionCounter binReactionCounter,
+                                           @Value("${bin.reaction.index-migration.enabled:true}") boolean enabled) {
+        this.memberBinReactionIndexRepository = memberBinReactionIndexRepository;
+        this.binReactionCounter = binReactionCounter;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        int removedCount = migrate(LIKE_TABLE, LIKE_INDEX) + migrate(DISLIKE_TABLE, DISLIKE_INDEX);
+        if (removedCount > 0) {
+            binReactionCounter.reconcile();
+        }
+    }
+
+    private int migrate(String table, String index) {
+        if (memberBinReactionIndexRepository.existsIndex(table, index)) {
+            return 0;
+        }
+        int removedCount = memberBinReactionIndexRepository.deleteDuplicates(table);
+        memberBinReactionIndexRepository.createUniqueIndex(table, index);
+        log.info("중복 반응을 정리하고 유니크 인덱스를 추가했습니다. table = {}, removed = {}", table, removedCount);
+        return removedCount;
+    }
+}
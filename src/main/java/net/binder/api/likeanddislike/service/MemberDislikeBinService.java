@@ -3,6 +3,7 @@ package net.binder.api.likeanddislike.service;
 import lombok.RequiredArgsConstructor;
 import net.binder.api.bin.entity.Bin;
 import net.binder.api.bin.service.BinService;
+import net.binder.api.bin.service.MemberBinFlagCache;
 import net.binder.api.common.exception.BadRequestException;
 import net.binder.api.likeanddislike.repository.MemberDislikeBinRepository;
 import net.binder.api.member.entity.Member;
@@ -20,21 +21,27 @@ public class MemberDislikeBinService {
 
     private final BinService binService;
 
+    private final BinReactionCounter binReactionCounter;
+
+    private final MemberBinFlagCache memberBinFlagCache;
+
     public void createDislike(Member member, Long binId){
 
         Bin bin = binService.findById(binId);
-        bin.increaseDislike();
+        binReactionCounter.increaseDislike(bin);
         MemberDislikeBin memberDislikeBin = MemberDislikeBin.builder()
                 .bin(bin)
                 .member(member)
                 .build();
         memberDislikeBinRepository.save(memberDislikeBin);
+        memberBinFlagCache.evict(member.getId());
     }
 
     public void deleteDisLike(Long memberId, Long binId){
         Bin bin = binService.findById(binId);
-        bin.decreaseDisLike();
+        binReactionCounter.decreaseDislike(bin);
         memberDislikeBinRepository.deleteMemberLikeBinByMember_IdAndBin_Id(memberId, binId);
+        memberBinFlagCache.evict(memberId);
     }
 
     public boolean isDislikeExist(Long memberId, Long binId){
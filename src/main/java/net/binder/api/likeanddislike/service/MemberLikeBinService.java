@@ -3,6 +3,7 @@ package net.binder.api.likeanddislike.service;
 import lombok.RequiredArgsConstructor;
 import net.binder.api.bin.entity.Bin;
 import net.binder.api.bin.service.BinService;
+import net.binder.api.bin.service.MemberBinFlagCache;
 import net.binder.api.bin.entity.BinRegistration;
 import net.binder.api.common.exception.BadRequestException;
 import net.binder.api.likeanddislike.entity.MemberLikeBin;
@@ -22,16 +23,19 @@ public class MemberLikeBinService {
     private final MemberLikeBinRepository memberLikeBinRepository;
     private final BinService binService;
     private final NotificationService notificationService;
+    private final BinReactionCounter binReactionCounter;
+    private final MemberBinFlagCache memberBinFlagCache;
 
     public void createLike(Member sender, Long binId) {
 
         Bin bin = binService.findById(binId);
-        bin.increaseLike();
+        binReactionCounter.increaseLike(bin);
         MemberLikeBin memberLikeBin = MemberLikeBin.builder()
                 .member(sender)
                 .bin(bin)
                 .build();
         memberLikeBinRepository.save(memberLikeBin);
+        memberBinFlagCache.evict(sender.getId());
 
         if (!notificationService.hasLikeNotification(sender, bin)) {
             notificationService.sendNotification(sender, getReceiver(bin), bin, NotificationType.BIN_LIKED, null);
@@ -40,8 +44,9 @@ public class MemberLikeBinService {
 
     public void deleteLike(Long memberId, Long binId) {
         Bin bin = binService.findById(binId);
-        bin.decreaseLike();
+        binReactionCounter.decreaseLike(bin);
         memberLikeBinRepository.deleteMemberLikeBinByMember_IdAndBin_Id(memberId, binId);
+        memberBinFlagCache.evict(memberId);
     }
 
     public boolean isLikeExist(Long memberId, Long binId){
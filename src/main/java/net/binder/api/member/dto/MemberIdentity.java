@@ -0,0 +1,23 @@
+package net.binder.api.member.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.member.entity.Member;
+import net.binder.api.member.entity.Role;
+
+@Getter
+@RequiredArgsConstructor
+public class MemberIdentity {
+
+    private final Long id;
+
+    private final String email;
+
+    private final Role role;
+
+    private final String nickname;
+
+    public static MemberIdentity from(Member member) {
+        return new MemberIdentity(member.getId(), member.getEmail(), member.getRole(), member.getNickname());
+    }
+}
@@ -0,0 +1,122 @@
+package net.binder.api.member.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.binder.api.member.dto.MemberIdentity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Component
+public class MemberIdentityCache {
+
+    private static final String REQUEST_ATTRIBUTE_NAME = MemberIdentityCache.class.getName();
+
+    private static final int MAX_SIZE_OF_IDENTITIES = 10_000;
+
+    private final boolean enabled;
+
+    private final long ttlMillis;
+
+    private final Map<String, Entry> identities = new ConcurrentHashMap<>();
+
+    public MemberIdentityCache(@Value("${member.identity-cache.enabled:false}") boolean enabled,
+                               @Value("${member.identity-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // 요청 단위 캐시를 먼저 보고, 없으면 애플리케이션 캐시를 본다.
+    public MemberIdentity get(String email) {
+        Map<String, MemberIdentity> requestCache = getRequestCache();
+        if (requestCache != null && requestCache.containsKey(email)) {
+            return requestCache.get(email);
+        }
+        if (!enabled) {
+            return null;
+        }
+
+        Entry entry = identities.get(email);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            identities.remove(email, entry);
+            return null;
+        }
+        if (requestCache != null) {
+            requestCache.put(email, entry.identity);
+        }
+        return entry.identity;
+    }
+
+    public void put(MemberIdentity identity) {
+        Map<String, MemberIdentity> requestCache = getRequestCache();
+        if (requestCache != null) {
+            requestCache.put(identity.getEmail(), identity);
+        }
+        if (!enabled) {
+            return;
+        }
+        if (identities.size() >= MAX_SIZE_OF_IDENTITIES) {
+            identities.clear();
+        }
+        identities.put(identity.getEmail(), new Entry(identity, System.currentTimeMillis() + ttlMillis));
+    }
+
+    // 프로필 수정, 회원 탈퇴 시 호출. 커밋 전에 지우면 다른 요청이 커밋 전 데이터로 다시 적재할 수 있으므로 커밋된 이후에 지운다.
+    public void evict(String email) {
+        Map<String, MemberIdentity> requestCache = getRequestCache();
+        if (requestCache != null) {
+            requestCache.remove(email);
+        }
+        afterCommit(() -> identities.remove(email));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, MemberIdentity> getRequestCache() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+        Object requestCache = requestAttributes.getAttribute(REQUEST_ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (requestCache == null) {
+            requestCache = new HashMap<String, MemberIdentity>();
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE_NAME, requestCache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, MemberIdentity>) requestCache;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private static class Entry {
+
+        private final MemberIdentity identity;
+
+        private final long expiresAt;
+
+        private Entry(MemberIdentity identity, long expiresAt) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
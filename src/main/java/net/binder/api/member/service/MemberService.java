@@ -1,6 +1,7 @@
 package net.binder.api.member.service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import net.binder.api.bin.entity.BinRegistration;
@@ -9,6 +10,7 @@ import net.binder.api.bookmark.repository.BookmarkRepository;
 import net.binder.api.common.exception.BadRequestException;
 import net.binder.api.common.exception.NotFoundException;
 import net.binder.api.member.dto.BinRegistrationActivity;
+import net.binder.api.member.dto.MemberIdentity;
 import net.binder.api.member.dto.MemberProfile;
 import net.binder.api.member.entity.Member;
 import net.binder.api.member.repository.MemberRepository;
@@ -28,6 +30,8 @@ public class MemberService {
 
     private final BinRegistrationReader binRegistrationReader;
 
+    private final MemberIdentityCache memberIdentityCache;
+
     @Transactional(readOnly = true)
     public MemberProfile getProfile(String email) {
         Member member = findByEmail(email);
@@ -35,10 +39,32 @@ public class MemberService {
         return MemberProfile.from(member, count);
     }
 
+    // 식별 정보가 캐시되어 있으면 id로 조회해, 같은 영속성 컨텍스트 안에서는 다시 쿼리하지 않는다.
     @Transactional(readOnly = true)
     public Member findByEmail(String email) {
-        return memberRepository.findByEmail(email)
+        MemberIdentity identity = memberIdentityCache.get(email);
+        if (identity != null) {
+            Optional<Member> member = memberRepository.findById(identity.getId());
+            if (member.isPresent()) {
+                return member.get();
+            }
+            memberIdentityCache.evict(email);
+        }
+
+        Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException("이메일과 일치하는 사용자를 찾을 수 없습니다."));
+        memberIdentityCache.put(MemberIdentity.from(member));
+        return member;
+    }
+
+    // 회원 id만 필요한 경우 엔티티를 조회하지 않는다.
+    @Transactional(readOnly = true)
+    public Long findIdByEmail(String email) {
+        MemberIdentity identity = memberIdentityCache.get(email);
+        if (identity != null) {
+            return identity.getId();
+        }
+        return findByEmail(email).getId();
     }
 
     public void deleteMember(String email, String input) {
@@ -48,6 +74,7 @@ public class MemberService {
         boolean deleted = member.softDelete();
 
         validateAlreadyDeleted(deleted);
+        memberIdentityCache.evict(email);
     }
 
     public void updateProfile(String email, String nickname, String imageUrl) {
@@ -58,6 +85,7 @@ public class MemberService {
         validateDuplicateNickname(nickname, member);
 
         member.changeProfile(nickname, imageUrl);
+        memberIdentityCache.evict(email);
     }
 
     @Transactional(readOnly = true)
@@ -13,5 +13,7 @@ public enum NotificationType {
     BIN_LIKED,
 
     BIN_MODIFIED,
-    BIN_DELETED
+    BIN_DELETED,
+
+    COMMENT_REJECTED
 }
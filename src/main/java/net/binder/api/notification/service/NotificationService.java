@@ -59,9 +59,9 @@ public class NotificationService {
 
     @Transactional(readOnly = true)
     public List<NotificationDetail> getNotificationDetails(String email, Long lastNotificationId) {
-        Member member = memberService.findByEmail(email);
+        Long memberId = memberService.findIdByEmail(email);
 
-        List<Notification> notifications = notificationQueryRepository.findAllByMemberId(member.getId(),
+        List<Notification> notifications = notificationQueryRepository.findAllByMemberId(memberId,
                 lastNotificationId, PAGE_SIZE);
 
         return notifications.stream()
@@ -71,20 +71,20 @@ public class NotificationService {
 
     @Transactional(readOnly = true)
     public Long getUnreadCount(String email) {
-        Member member = memberService.findByEmail(email);
+        Long memberId = memberService.findIdByEmail(email);
 
-        return notificationRepository.countByReceiverIdAndIsRead(member.getId(), false);
+        return notificationRepository.countByReceiverIdAndIsRead(memberId, false);
     }
 
     public Integer readAllNotifications(String email) {
-        Member member = memberService.findByEmail(email);
-        return notificationRepository.updateUnreadToRead(member.getId());
+        Long memberId = memberService.findIdByEmail(email);
+        return notificationRepository.updateUnreadToRead(memberId);
     }
 
     @Transactional(readOnly = true)
     public boolean hasUnreadNotifications(String email) {
-        Member member = memberService.findByEmail(email);
-        return notificationRepository.existsByReceiverIdAndIsRead(member.getId(), false);
+        Long memberId = memberService.findIdByEmail(email);
+        return notificationRepository.existsByReceiverIdAndIsRead(memberId, false);
     }
 
     public void deleteNotification(String email, Long notificationId) {
@@ -6,13 +6,18 @@ import lombok.RequiredArgsConstructor;
 import net.binder.api.bin.entity.BinType;
 import net.binder.api.common.annotation.CurrentUser;
 import net.binder.api.search.dto.SearchResult;
+import net.binder.api.search.dto.ViewportResponse;
 import net.binder.api.search.service.SearchService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -25,13 +30,55 @@ public class SearchController {
 
     @Operation(summary = "좌표 기반 쓰레기통 검색")
     @GetMapping
-    public List<SearchResult> searchByCoordinate(
+    public ResponseEntity<List<SearchResult>> searchByCoordinate(
             @RequestParam(value = "longitude") Double longitude,
             @RequestParam(value = "latitude") Double latitude,
             @RequestParam(value = "radius") Integer radius,
             @RequestParam(value = "type", required = false) BinType type,
             @CurrentUser String email) {
-        return searchService.searchByCoordinate(type, longitude, latitude, radius, email);
+        List<SearchResult> results = searchService.searchByCoordinate(type, longitude, latitude, radius, email);
+
+        // 비로그인 응답은 모두에게 같으므로 CDN이나 앱에서 재사용할 수 있다. 토큰은 쿠키와 Authorization 헤더 어느 쪽으로도 올 수 있다.
+        if (email == null) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic())
+                    .varyBy(HttpHeaders.COOKIE, HttpHeaders.AUTHORIZATION)
+                    .body(results);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(results);
+    }
+
+    @Operation(summary = "가까운 쓰레기통 N개 검색")
+    @GetMapping("/nearest")
+    public List<SearchResult> searchNearest(
+            @RequestParam(value = "longitude") Double longitude,
+            @RequestParam(value = "latitude") Double latitude,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "maxDistance", required = false) Integer maxDistance,
+            @RequestParam(value = "type", required = false) BinType type,
+            @CurrentUser String email) {
+        return searchService.searchNearest(type, longitude, latitude, size, maxDistance, email);
+    }
+
+    @Operation(summary = "지도 영역 기반 쓰레기통 검색", description = "지도 레벨이 높거나 쓰레기통이 많으면 격자별 클러스터로 응답합니다.")
+    @GetMapping("/viewport")
+    public ResponseEntity<ViewportResponse> searchByViewport(
+            @RequestParam(value = "minLongitude") Double minLongitude,
+            @RequestParam(value = "minLatitude") Double minLatitude,
+            @RequestParam(value = "maxLongitude") Double maxLongitude,
+            @RequestParam(value = "maxLatitude") Double maxLatitude,
+            @RequestParam(value = "level") Integer level,
+            @RequestParam(value = "type", required = false) BinType type) {
+
+        ViewportResponse response = searchService.searchByViewport(type, minLongitude, minLatitude, maxLongitude,
+                maxLatitude, level);
+
+        // 사용자와 무관한 응답이므로 지도 이동 시 같은 영역 요청은 캐시를 사용할 수 있다.
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic())
+                .body(response);
     }
 
     @Operation(summary = "키워드 기반 쓰레기통 검색")
@@ -0,0 +1,15 @@
+package net.binder.api.search.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class BinCluster {
+
+    private final Double longitude;
+
+    private final Double latitude;
+
+    private final Integer count;
+}
@@ -0,0 +1,39 @@
+package net.binder.api.search.dto;
+
+import lombok.Getter;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinType;
+
+@Getter
+public class IndexedBin {
+
+    private final Long id;
+
+    private final String title;
+
+    private final String address;
+
+    private final BinType type;
+
+    private final double latitude;
+
+    private final double longitude;
+
+    public IndexedBin(Long id, String title, String address, BinType type, Double latitude, Double longitude) {
+        this.id = id;
+        this.title = title;
+        this.address = address;
+        this.type = type;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static IndexedBin from(Bin bin) {
+        return new IndexedBin(bin.getId(), bin.getTitle(), bin.getAddress(), bin.getType(), bin.getPoint().getY(),
+                bin.getPoint().getX());
+    }
+
+    public SearchResult toSearchResult(boolean isBookmarked, double distance) {
+        return new SearchResult(id, address, title, type, longitude, latitude, isBookmarked, distance);
+    }
+}
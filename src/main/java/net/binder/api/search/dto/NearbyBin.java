@@ -0,0 +1,13 @@
+package net.binder.api.search.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class NearbyBin {
+
+    private final IndexedBin bin;
+
+    private final double distance;
+}
@@ -29,4 +29,7 @@ public class SearchResult {
 
     private final Double distance;
 
+    public SearchResult withBookmarked(boolean isBookMarked) {
+        return new SearchResult(id, address, title, type, longitude, latitude, isBookMarked, distance);
+    }
 }
@@ -0,0 +1,27 @@
+package net.binder.api.search.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.entity.BinType;
+
+@Getter
+@RequiredArgsConstructor
+public class ViewportBin {
+
+    private final Long id;
+
+    private final String address;
+
+    private final String title;
+
+    private final BinType type;
+
+    private final Double longitude;
+
+    private final Double latitude;
+
+    public static ViewportBin from(IndexedBin indexedBin) {
+        return new ViewportBin(indexedBin.getId(), indexedBin.getAddress(), indexedBin.getTitle(),
+                indexedBin.getType(), indexedBin.getLongitude(), indexedBin.getLatitude());
+    }
+}
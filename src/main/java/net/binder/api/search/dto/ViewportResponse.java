@@ -0,0 +1,24 @@
+package net.binder.api.search.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ViewportResponse {
+
+    private final Boolean isClustered;
+
+    private final List<ViewportBin> bins;
+
+    private final List<BinCluster> clusters;
+
+    public static ViewportResponse ofBins(List<ViewportBin> bins) {
+        return new ViewportResponse(false, bins, List.of());
+    }
+
+    public static ViewportResponse ofClusters(List<BinCluster> clusters) {
+        return new ViewportResponse(true, List.of(), clusters);
+    }
+}
@@ -2,18 +2,24 @@ package net.binder.api.search.repository;
 
 import static net.binder.api.bin.entity.QBin.bin;
 import static net.binder.api.bin.entity.QBinRegistration.binRegistration;
-import static net.binder.api.bookmark.entity.QBookmark.bookmark;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.NumberTemplate;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import net.binder.api.bin.entity.BinRegistrationStatus;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.util.BoundingBox;
+import net.binder.api.bin.util.SpatialExpressions;
+import net.binder.api.search.dto.BinCluster;
+import net.binder.api.search.dto.IndexedBin;
 import net.binder.api.search.dto.SearchRequest;
 import net.binder.api.search.dto.SearchResult;
 import org.springframework.stereotype.Repository;
@@ -27,97 +33,152 @@ public class SearchQueryRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
 
-    public List<SearchResult> findBins(SearchRequest searchRequest, Long memberId) {
-        BooleanBuilder booleanBuilder = new BooleanBuilder();
-        if (searchRequest.getType() != null) {
-            booleanBuilder.and(bin.type.eq(searchRequest.getType()));
-        }
-        String point = String.format("POINT(%.12f %.12f)", searchRequest.getLongitude(), searchRequest.getLatitude());
-        String geoFunction = "ST_CONTAINS(ST_BUFFER(ST_GeomFromText({0}, 4326), {1}), point)";
-        JPAQuery<SearchResult> query = jpaQueryFactory
-                .select(Projections.constructor(SearchResult.class,
+    public List<SearchResult> findBins(SearchRequest searchRequest) {
+        return findBinsAround(searchRequest.getType(), searchRequest.getLatitude(), searchRequest.getLongitude(),
+                searchRequest.getRadius(), MAX_SIZE_OF_SEARCH_RESULT);
+    }
+
+    // 반경 내 바운딩 박스로 idx_bin_point 인덱스를 먼저 타게 한 뒤, 실제 거리로 가까운 순서대로 size개를 조회한다.
+    public List<SearchResult> findNearestBins(BinType type, double latitude, double longitude, int size,
+                                              int maxDistance) {
+        return findBinsAround(type, latitude, longitude, maxDistance, size);
+    }
+
+    public List<IndexedBin> findSearchableBins() {
+        return jpaQueryFactory
+                .select(Projections.constructor(IndexedBin.class,
                         bin.id,
+                        bin.title,
                         bin.address,
+                        bin.type,
+                        Expressions.numberTemplate(Double.class, "ST_X({0})", bin.point),
+                        Expressions.numberTemplate(Double.class, "ST_Y({0})", bin.point)
+                ))
+                .from(bin)
+                .leftJoin(bin.binRegistration, binRegistration)
+                .where(isSearchable())
+                .fetch();
+    }
+
+    public List<IndexedBin> findSearchableBinsIn(BinType type, BoundingBox boundingBox) {
+        return selectSearchableBinsIn(type, boundingBox).fetch();
+    }
+
+    public List<IndexedBin> findSearchableBinsIn(BinType type, BoundingBox boundingBox, int limit) {
+        return selectSearchableBinsIn(type, boundingBox)
+                .limit(limit)
+                .fetch();
+    }
+
+    // 격자 칸마다 평균 좌표와 개수를 DB에서 집계한다. 반환 행 수는 격자 칸 수를 넘지 않는다.
+    public List<BinCluster> findClustersIn(BinType type, BoundingBox boundingBox, double cellSize) {
+        NumberTemplate<Double> latitude = Expressions.numberTemplate(Double.class, "ST_X({0})", bin.point);
+        NumberTemplate<Double> longitude = Expressions.numberTemplate(Double.class, "ST_Y({0})", bin.point);
+
+        return jpaQueryFactory
+                .select(Projections.constructor(BinCluster.class,
+                        longitude.avg(),
+                        latitude.avg(),
+                        bin.id.count().intValue()
+                ))
+                .from(bin)
+                .leftJoin(bin.binRegistration, binRegistration)
+                .where(typeEq(type)
+                        .and(SpatialExpressions.withinBoundingBox(bin.point, boundingBox))
+                        .and(isSearchable()))
+                .groupBy(Expressions.numberTemplate(Long.class, "floor({0} / {1})", latitude, cellSize),
+                        Expressions.numberTemplate(Long.class, "floor({0} / {1})", longitude, cellSize))
+                .fetch();
+    }
+
+    private JPAQuery<IndexedBin> selectSearchableBinsIn(BinType type, BoundingBox boundingBox) {
+        return jpaQueryFactory
+                .select(Projections.constructor(IndexedBin.class,
+                        bin.id,
                         bin.title,
+                        bin.address,
                         bin.type,
-                        Expressions.numberTemplate(Double.class, "ST_Y({0})", bin.point),
                         Expressions.numberTemplate(Double.class, "ST_X({0})", bin.point),
-                        ExpressionUtils.as(
-                                memberId != null ?
-                                        JPAExpressions.selectOne()
-                                                .from(bookmark)
-                                                .where(bookmark.bin.id.eq(bin.id)
-                                                        .and(bookmark.member.id.eq(memberId)))
-                                                .exists()
-                                        : Expressions.constant(false),
-                                "isBookmarked"
-                        ),
-                        Expressions.numberTemplate(Double.class,
-                                "ST_Distance({0}, ST_GeomFromText({1}, 4326))",
-                                bin.point, point).as("distance")
+                        Expressions.numberTemplate(Double.class, "ST_Y({0})", bin.point)
                 ))
                 .from(bin)
                 .leftJoin(bin.binRegistration, binRegistration)
-                .where(booleanBuilder.and(
-                        Expressions.booleanTemplate(geoFunction, point, searchRequest.getRadius()
-                                )
-                                .and(binRegistration.isNull()
-                                        .or(binRegistration.status.eq(BinRegistrationStatus.APPROVED)
-                                        )).and(bin.deletedAt.isNull())))
-                .orderBy(Expressions.numberTemplate(Double.class,
-                        "ST_Distance({0}, ST_GeomFromText({1}, 4326))",
-                        bin.point, point).asc())
-                .limit(MAX_SIZE_OF_SEARCH_RESULT);
-
-        return query.fetch();
+                .where(typeEq(type)
+                        .and(SpatialExpressions.withinBoundingBox(bin.point, boundingBox))
+                        .and(isSearchable()));
+    }
+
+    private BooleanBuilder typeEq(BinType type) {
+        BooleanBuilder booleanBuilder = new BooleanBuilder();
+        if (type != null) {
+            booleanBuilder.and(bin.type.eq(type));
+        }
+        return booleanBuilder;
     }
 
     public List<SearchResult> findBinsByKeyword(
             Double longitude,
             Double latitude,
             Double targetLongitude,
-            Double targetLatitude,
-            Long memberId) {
+            Double targetLatitude) {
 
+        // 검색 대상 위치 주변에서 후보를 고르고, 정렬은 현재 위치로부터의 거리로 한다.
+        NumberTemplate<Double> distanceFromTarget = SpatialExpressions.distanceSphere(bin.point, targetLatitude,
+                targetLongitude);
+        NumberTemplate<Double> distanceFromCurrent = SpatialExpressions.distanceSphere(bin.point, latitude,
+                longitude);
+        BoundingBox boundingBox = BoundingBox.around(targetLatitude, targetLongitude, RADIS_FOR_KEYWORD_SEARCH);
+
+        return jpaQueryFactory
+                .select(toSearchResult(distanceFromCurrent))
+                .from(bin)
+                .leftJoin(bin.binRegistration, binRegistration)
+                .where(SpatialExpressions.withinBoundingBox(bin.point, boundingBox)
+                        .and(distanceFromTarget.loe((double) RADIS_FOR_KEYWORD_SEARCH))
+                        .and(isSearchable()))
+                .orderBy(distanceFromCurrent.asc())
+                .limit(MAX_SIZE_OF_SEARCH_RESULT)
+                .fetch();
+    }
+
+    private List<SearchResult> findBinsAround(BinType type, double latitude, double longitude, int radius,
+                                              int size) {
         BooleanBuilder booleanBuilder = new BooleanBuilder();
-        String currentPoint = String.format("POINT(%.12f %.12f)", latitude, longitude);
-        String targetPoint = String.format("POINT(%.12f %.12f)", targetLatitude, targetLongitude);
-        String geoFunction = "ST_CONTAINS(ST_BUFFER(ST_GeomFromText({0}, 4326), {1}), point)";
-        JPAQuery<SearchResult> query = jpaQueryFactory
-                .select(Projections.constructor(SearchResult.class,
-                        bin.id,
-                        bin.address,
-                        bin.title,
-                        bin.type,
-                        Expressions.numberTemplate(Double.class, "ST_Y({0})", bin.point),
-                        Expressions.numberTemplate(Double.class, "ST_X({0})", bin.point),
-                        ExpressionUtils.as(
-                                memberId != null ?
-                                        JPAExpressions.selectOne()
-                                                .from(bookmark)
-                                                .where(bookmark.bin.id.eq(bin.id)
-                                                        .and(bookmark.member.id.eq(memberId)))
-                                                .exists()
-                                        : Expressions.constant(false),
-                                "isBookmarked"
-                        ),
-                        Expressions.numberTemplate(Double.class,
-                                "ST_Distance({0}, ST_GeomFromText({1}, 4326))",
-                                bin.point, currentPoint).as("distance")
-                ))
+        if (type != null) {
+            booleanBuilder.and(bin.type.eq(type));
+        }
+        NumberTemplate<Double> distance = SpatialExpressions.distanceSphere(bin.point, latitude, longitude);
+        BoundingBox boundingBox = BoundingBox.around(latitude, longitude, radius);
+
+        return jpaQueryFactory
+                .select(toSearchResult(distance))
                 .from(bin)
                 .leftJoin(bin.binRegistration, binRegistration)
-                .where(booleanBuilder.and(
-                        Expressions.booleanTemplate(geoFunction, targetPoint, RADIS_FOR_KEYWORD_SEARCH
-                                )
-                                .and(binRegistration.isNull()
-                                        .or(binRegistration.status.eq(BinRegistrationStatus.APPROVED)
-                                        )).and(bin.deletedAt.isNull())))
-                .orderBy(Expressions.numberTemplate(Double.class,
-                        "ST_Distance({0}, ST_GeomFromText({1}, 4326))",
-                        bin.point, currentPoint).asc())
-                .limit(MAX_SIZE_OF_SEARCH_RESULT);
-        return query.fetch();
+                .where(booleanBuilder
+                        .and(SpatialExpressions.withinBoundingBox(bin.point, boundingBox))
+                        .and(distance.loe((double) radius))
+                        .and(isSearchable()))
+                .orderBy(distance.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 북마크 여부는 회원별로 SearchService에서 따로 표시하므로, 위치 검색 결과는 회원과 무관하게 만든다.
+    private Expression<SearchResult> toSearchResult(NumberTemplate<Double> distance) {
+        return Projections.constructor(SearchResult.class,
+                bin.id,
+                bin.address,
+                bin.title,
+                bin.type,
+                Expressions.numberTemplate(Double.class, "ST_Y({0})", bin.point),
+                Expressions.numberTemplate(Double.class, "ST_X({0})", bin.point),
+                ExpressionUtils.as(Expressions.constant(false), "isBookmarked"),
+                distance.as("distance"));
     }
-}
 
+    private BooleanExpression isSearchable() {
+        return binRegistration.isNull()
+                .or(binRegistration.status.eq(BinRegistrationStatus.APPROVED))
+                .and(bin.deletedAt.isNull());
+    }
+}
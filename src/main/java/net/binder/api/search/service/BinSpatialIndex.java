@@ -0,0 +1,287 @@
+package net.binder.api.search.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinRegistration;
+import net.binder.api.bin.entity.BinRegistrationStatus;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.util.BoundingBox;
+import net.binder.api.bin.util.DistanceCalculator;
+import net.binder.api.search.dto.IndexedBin;
+import net.binder.api.search.dto.NearbyBin;
+import net.binder.api.search.repository.SearchQueryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@Slf4j
+public class BinSpatialIndex {
+
+    private static final double CELL_SIZE_DEGREES = 0.005; // 위도 기준 약 550m
+
+    private static final double METERS_PER_DEGREE = 111_320;
+
+    private final SearchQueryRepository searchQueryRepository;
+
+    private final boolean enabled;
+
+    private volatile Map<Long, IndexedBin> bins = new ConcurrentHashMap<>();
+
+    private volatile Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    public BinSpatialIndex(SearchQueryRepository searchQueryRepository,
+                           @Value("${search.index.enabled:false}") boolean enabled) {
+        this.searchQueryRepository = searchQueryRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::reload, "bin-spatial-index-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void reload() {
+        try {
+            load(searchQueryRepository.findSearchableBins());
+        } catch (RuntimeException e) {
+            log.error("쓰레기통 공간 인덱스 적재에 실패했습니다.", e);
+        }
+    }
+
+    public void load(List<IndexedBin> indexedBins) {
+        Map<Long, IndexedBin> newBins = new ConcurrentHashMap<>();
+        Map<Long, Set<Long>> newCells = new ConcurrentHashMap<>();
+
+        for (IndexedBin indexedBin : indexedBins) {
+            newBins.put(indexedBin.getId(), indexedBin);
+            newCells.computeIfAbsent(getCellKey(indexedBin.getLatitude(), indexedBin.getLongitude()),
+                    key -> ConcurrentHashMap.newKeySet()).add(indexedBin.getId());
+        }
+
+        bins = newBins;
+        cells = newCells;
+        ready = true;
+        log.info("쓰레기통 공간 인덱스 적재 완료. size = {}", newBins.size());
+    }
+
+    // 인덱스가 비활성화 상태이거나 적재 중이라면 DB 검색을 사용한다.
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        return bins.size();
+    }
+
+    public List<NearbyBin> findNearest(BinType type, double latitude, double longitude, int radius, int limit) {
+        BoundingBox boundingBox = BoundingBox.around(latitude, longitude, radius);
+
+        long minRow = toCellIndex(boundingBox.getMinLatitude());
+        long maxRow = toCellIndex(boundingBox.getMaxLatitude());
+        long minColumn = toCellIndex(boundingBox.getMinLongitude());
+        long maxColumn = toCellIndex(boundingBox.getMaxLongitude());
+
+        List<NearbyBin> candidates = new ArrayList<>();
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long column = minColumn; column <= maxColumn; column++) {
+                collect(row, column, type, latitude, longitude, radius, candidates);
+            }
+        }
+
+        return sortByDistance(candidates, limit);
+    }
+
+    // 중심 셀에서부터 한 칸씩 링을 넓혀가며 가까운 쓰레기통 size개를 찾는다.
+    public List<NearbyBin> findNearestNeighbors(BinType type, double latitude, double longitude, int size,
+                                                int maxDistance) {
+        double cellHeight = CELL_SIZE_DEGREES * METERS_PER_DEGREE;
+        double cellWidth = cellHeight * Math.cos(Math.toRadians(latitude));
+        double minCellSide = Math.min(cellHeight, cellWidth);
+
+        long centerRow = toCellIndex(latitude);
+        long centerColumn = toCellIndex(longitude);
+        long maxRing = (long) Math.ceil(maxDistance / minCellSide) + 1;
+
+        List<NearbyBin> candidates = new ArrayList<>();
+
+        for (long ring = 0; ring <= maxRing; ring++) {
+            for (long row = centerRow - ring; row <= centerRow + ring; row++) {
+                for (long column = centerColumn - ring; column <= centerColumn + ring; column++) {
+                    boolean isPerimeter = Math.abs(row - centerRow) == ring || Math.abs(column - centerColumn) == ring;
+                    if (isPerimeter) {
+                        collect(row, column, type, latitude, longitude, maxDistance, candidates);
+                    }
+                }
+            }
+
+            // 지금까지 탐색한 링이 빠짐없이 덮는 거리 안에 size개 이상 있다면 더 넓힐 필요가 없다.
+            double coveredDistance = ring * minCellSide;
+            if (coveredDistance >= maxDistance || countWithin(candidates, coveredDistance) >= size) {
+                break;
+            }
+        }
+
+        return sortByDistance(candidates, size);
+    }
+
+    public List<IndexedBin> findInBoundingBox(BinType type, BoundingBox boundingBox) {
+        long minRow = toCellIndex(boundingBox.getMinLatitude());
+        long maxRow = toCellIndex(boundingBox.getMaxLatitude());
+        long minColumn = toCellIndex(boundingBox.getMinLongitude());
+        long maxColumn = toCellIndex(boundingBox.getMaxLongitude());
+
+        // 화면이 넓어 셀 수가 쓰레기통 수보다 많다면 셀을 도는 것보다 전체를 훑는 편이 빠르다.
+        if ((maxRow - minRow + 1) * (maxColumn - minColumn + 1) > bins.size()) {
+            return bins.values().stream()
+                    .filter(indexedBin -> isMatched(indexedBin, type, boundingBox))
+                    .toList();
+        }
+
+        List<IndexedBin> result = new ArrayList<>();
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long column = minColumn; column <= maxColumn; column++) {
+                Set<Long> ids = cells.get(toCellKey(row, column));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    IndexedBin indexedBin = bins.get(id);
+                    if (indexedBin != null && isMatched(indexedBin, type, boundingBox)) {
+                        result.add(indexedBin);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // 등록 승인, 수정 승인 시 호출. 트랜잭션이 커밋된 이후에 인덱스에 반영한다.
+    public void put(Bin bin) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            if (!isSearchable(bin)) {
+                remove(bin.getId());
+                return;
+            }
+            IndexedBin indexedBin = IndexedBin.from(bin);
+            IndexedBin previous = bins.put(indexedBin.getId(), indexedBin);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+            cells.computeIfAbsent(getCellKey(indexedBin.getLatitude(), indexedBin.getLongitude()),
+                    key -> ConcurrentHashMap.newKeySet()).add(indexedBin.getId());
+        });
+    }
+
+    // 삭제, 신고 승인 시 호출
+    public void delete(Bin bin) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> remove(bin.getId()));
+    }
+
+    private void collect(long row, long column, BinType type, double latitude, double longitude, double maxDistance,
+                         List<NearbyBin> candidates) {
+        Set<Long> ids = cells.get(toCellKey(row, column));
+        if (ids == null) {
+            return;
+        }
+        for (Long id : ids) {
+            IndexedBin indexedBin = bins.get(id);
+            if (indexedBin == null || (type != null && indexedBin.getType() != type)) {
+                continue;
+            }
+            double distance = DistanceCalculator.calculateDistance(latitude, longitude,
+                    indexedBin.getLatitude(), indexedBin.getLongitude());
+            if (distance <= maxDistance) {
+                candidates.add(new NearbyBin(indexedBin, distance));
+            }
+        }
+    }
+
+    private boolean isMatched(IndexedBin indexedBin, BinType type, BoundingBox boundingBox) {
+        return (type == null || indexedBin.getType() == type)
+                && boundingBox.contains(indexedBin.getLatitude(), indexedBin.getLongitude());
+    }
+
+    private long countWithin(List<NearbyBin> candidates, double distance) {
+        return candidates.stream()
+                .filter(nearbyBin -> nearbyBin.getDistance() <= distance)
+                .count();
+    }
+
+    private List<NearbyBin> sortByDistance(List<NearbyBin> candidates, int limit) {
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(NearbyBin::getDistance))
+                .limit(limit)
+                .toList();
+    }
+
+    private void remove(Long binId) {
+        IndexedBin previous = bins.remove(binId);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+
+    private void removeFromCell(IndexedBin indexedBin) {
+        Set<Long> ids = cells.get(getCellKey(indexedBin.getLatitude(), indexedBin.getLongitude()));
+        if (ids != null) {
+            ids.remove(indexedBin.getId());
+        }
+    }
+
+    private boolean isSearchable(Bin bin) {
+        BinRegistration binRegistration = bin.getBinRegistration();
+
+        return !bin.isDeleted() &&
+                (binRegistration == null || binRegistration.getStatus() == BinRegistrationStatus.APPROVED);
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private static long getCellKey(double latitude, double longitude) {
+        return toCellKey(toCellIndex(latitude), toCellIndex(longitude));
+    }
+
+    private static long toCellIndex(double degrees) {
+        return (long) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long toCellKey(long row, long column) {
+        return (row << 32) | (column & 0xffffffffL);
+    }
+}
@@ -0,0 +1,156 @@
+package net.binder.api.search.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.util.DistanceCalculator;
+import net.binder.api.bin.util.GeoHash;
+import net.binder.api.search.dto.IndexedBin;
+import net.binder.api.search.dto.NearbyBin;
+import net.binder.api.search.repository.SearchQueryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class BinTileCache {
+
+    // 정밀도 6 셀은 약 610m x 970m 이므로, 주변 3x3 셀이면 최대 검색 반경 500m를 모두 덮는다.
+    private static final int PRECISION = 6;
+
+    private static final String ALL_TYPES = "ALL";
+
+    private static final int MAX_SIZE_OF_TILES = 10_000;
+
+    private final SearchQueryRepository searchQueryRepository;
+
+    private final boolean enabled;
+
+    private final long ttlMillis;
+
+    private final Map<String, Tile> tiles = new ConcurrentHashMap<>();
+
+    // 타일에 담긴 쓰레기통이 어느 셀에 있었는지 기억해, 위치가 바뀐 경우 이전 셀도 무효화한다.
+    private final Map<Long, String> geoHashByBinId = new ConcurrentHashMap<>();
+
+    public BinTileCache(SearchQueryRepository searchQueryRepository,
+                        @Value("${search.tile-cache.enabled:false}") boolean enabled,
+                        @Value("${search.tile-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.searchQueryRepository = searchQueryRepository;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<NearbyBin> findNearest(BinType type, double latitude, double longitude, int radius, int limit) {
+        List<NearbyBin> candidates = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+
+        for (String geoHash : GeoHash.withNeighbors(GeoHash.encode(latitude, longitude, PRECISION))) {
+            for (IndexedBin indexedBin : getTile(geoHash, type).getBins()) {
+                // 셀 경계에 걸친 쓰레기통은 두 타일에 모두 담길 수 있다.
+                if (!visited.add(indexedBin.getId())) {
+                    continue;
+                }
+                double distance = DistanceCalculator.calculateDistance(latitude, longitude,
+                        indexedBin.getLatitude(), indexedBin.getLongitude());
+                if (distance <= radius) {
+                    candidates.add(new NearbyBin(indexedBin, distance));
+                }
+            }
+        }
+
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(NearbyBin::getDistance))
+                .limit(limit)
+                .toList();
+    }
+
+    // 등록 승인, 수정, 삭제 시 호출. 트랜잭션이 커밋된 이후에 해당 셀의 타일을 비운다.
+    public void evict(Bin bin) {
+        if (!enabled) {
+            return;
+        }
+        String geoHash = GeoHash.encode(bin.getPoint().getY(), bin.getPoint().getX(), PRECISION);
+        afterCommit(() -> {
+            evictCell(geoHash);
+            String previousGeoHash = geoHashByBinId.remove(bin.getId());
+            if (previousGeoHash != null && !previousGeoHash.equals(geoHash)) {
+                evictCell(previousGeoHash);
+            }
+        });
+    }
+
+    public void clear() {
+        tiles.clear();
+        geoHashByBinId.clear();
+    }
+
+    private Tile getTile(String geoHash, BinType type) {
+        String key = toKey(geoHash, type);
+        Tile tile = tiles.get(key);
+        if (tile != null && !tile.isExpired(ttlMillis)) {
+            return tile;
+        }
+
+        if (tiles.size() >= MAX_SIZE_OF_TILES) {
+            tiles.clear();
+        }
+
+        List<IndexedBin> bins = searchQueryRepository.findSearchableBinsIn(type, GeoHash.decode(geoHash));
+        bins.forEach(indexedBin -> geoHashByBinId.put(indexedBin.getId(), geoHash));
+
+        Tile newTile = new Tile(bins, System.currentTimeMillis());
+        tiles.put(key, newTile);
+        return newTile;
+    }
+
+    private void evictCell(String geoHash) {
+        tiles.remove(toKey(geoHash, null));
+        for (BinType type : BinType.values()) {
+            tiles.remove(toKey(geoHash, type));
+        }
+    }
+
+    private String toKey(String geoHash, BinType type) {
+        return geoHash + ":" + (type == null ? ALL_TYPES : type.name());
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Tile {
+
+        private final List<IndexedBin> bins;
+
+        private final long createdAt;
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - createdAt > ttlMillis;
+        }
+    }
+}
@@ -2,29 +2,72 @@ package net.binder.api.search.service;
 
 import lombok.RequiredArgsConstructor;
 import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.util.BoundingBox;
+import net.binder.api.bookmark.service.MemberBookmarkCache;
 import net.binder.api.common.exception.BadRequestException;
 import net.binder.api.member.entity.Member;
 import net.binder.api.member.service.MemberService;
+import net.binder.api.search.dto.BinCluster;
+import net.binder.api.search.dto.IndexedBin;
+import net.binder.api.search.dto.NearbyBin;
 import net.binder.api.search.dto.SearchRequest;
 import net.binder.api.search.dto.SearchResult;
+import net.binder.api.search.dto.ViewportBin;
+import net.binder.api.search.dto.ViewportResponse;
 import net.binder.api.search.repository.SearchQueryRepository;
 import net.binder.api.searchlog.service.SearchLogService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class SearchService {
 
+    private static final int MAX_SIZE_OF_SEARCH_RESULT = 20;
+
+    private static final int DEFAULT_SIZE_OF_NEAREST_SEARCH = 20;
+
+    private static final int MAX_SIZE_OF_NEAREST_SEARCH = 50;
+
+    private static final int DEFAULT_MAX_DISTANCE = 2000;
+
+    private static final int MAX_DISTANCE_LIMIT = 5000;
+
+    private static final int INITIAL_DISTANCE_OF_NEAREST_SEARCH = 250;
+
+    // 카카오맵 지도 레벨 기준 (1 ~ 14, 숫자가 클수록 넓은 지역)
+    private static final int MIN_MAP_LEVEL = 1;
+
+    private static final int MAX_MAP_LEVEL = 14;
+
+    private static final int CLUSTERING_MAP_LEVEL = 5;
+
+    private static final int MAX_SIZE_OF_VIEWPORT_BINS = 300;
+
+    private static final double CLUSTER_CELL_SIZE_DEGREES_AT_LEVEL_1 = 0.0005;
+
+    // 레벨마다 한 화면이 덮을 수 있는 최대 범위. 격자 크기와 같은 비율로 커지므로 클러스터 수는 레벨과 관계없이 400개 이하다.
+    private static final double MAX_VIEWPORT_SPAN_DEGREES_AT_LEVEL_1 = 0.01;
+
     private final SearchLogService searchLogService;
 
     private final SearchQueryRepository searchQueryRepository;
 
     private final MemberService memberService;
 
+    private final BinSpatialIndex binSpatialIndex;
+
+    private final BinTileCache binTileCache;
+
+    private final MemberBookmarkCache memberBookmarkCache;
+
     public List<SearchResult> searchByCoordinate(
             BinType bintype,
             Double longitude,
@@ -51,15 +94,117 @@ public class SearchService {
             radiusToUse = 500;
         }
 
-        SearchRequest searchRequest = new SearchRequest(bintype, longitude, latitude, radiusToUse);
+        SearchRequest searchRequest = new SearchRequest(bintype, latitude, longitude, radiusToUse);
+
+        List<SearchResult> results = findBins(searchRequest);
 
         if (email == null) {
-            return searchQueryRepository.findBins(searchRequest, null);
+            return results;
         }
 
-        Member member = memberService.findByEmail(email);
+        Long memberId = memberService.findIdByEmail(email);
+
+        return markBookmarkedBins(results, memberId);
+    }
+
+    public List<SearchResult> searchNearest(
+            BinType bintype,
+            Double longitude,
+            Double latitude,
+            Integer size,
+            Integer maxDistance,
+            String email) {
+
+        //한국의 경도는 124도에서 132도, 위도는 33~ 43도
+        if (longitude < 124 || longitude > 133 || latitude < 33 || latitude > 44) {
+            throw new BadRequestException("잘못된 좌표입니다.");
+        }
+
+        if ((size != null && size <= 0) || (maxDistance != null && maxDistance <= 0)) {
+            throw new BadRequestException("잘못된 검색 조건입니다.");
+        }
+
+        int sizeToUse = size == null ? DEFAULT_SIZE_OF_NEAREST_SEARCH : Math.min(size, MAX_SIZE_OF_NEAREST_SEARCH);
+        int maxDistanceToUse = maxDistance == null ? DEFAULT_MAX_DISTANCE : Math.min(maxDistance, MAX_DISTANCE_LIMIT);
+
+        List<SearchResult> results = findNearestBins(bintype, latitude, longitude, sizeToUse, maxDistanceToUse);
+
+        if (email == null) {
+            return results;
+        }
+
+        Long memberId = memberService.findIdByEmail(email);
+
+        return markBookmarkedBins(results, memberId);
+    }
+
+    public ViewportResponse searchByViewport(
+            BinType bintype,
+            Double minLongitude,
+            Double minLatitude,
+            Double maxLongitude,
+            Double maxLatitude,
+            int level) {
+
+        if (minLongitude > maxLongitude || minLatitude > maxLatitude) {
+            throw new BadRequestException("잘못된 지도 영역입니다.");
+        }
+
+        //한국의 경도는 124도에서 132도, 위도는 33~ 43도
+        if (maxLongitude < 124 || minLongitude > 133 || maxLatitude < 33 || minLatitude > 44) {
+            throw new BadRequestException("잘못된 좌표입니다.");
+        }
+
+        if (level < MIN_MAP_LEVEL || level > MAX_MAP_LEVEL) {
+            throw new BadRequestException("잘못된 지도 레벨입니다.");
+        }
+
+        // 레벨이 하나 올라갈 때마다 지도 축척이 두 배가 되므로 클러스터 격자 크기와 최대 범위도 두 배로 키운다.
+        long scale = 1L << (level - 1);
+        double cellSize = CLUSTER_CELL_SIZE_DEGREES_AT_LEVEL_1 * scale;
+        BoundingBox boundingBox = limitSpan(new BoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude),
+                MAX_VIEWPORT_SPAN_DEGREES_AT_LEVEL_1 * scale);
+
+        if (!binSpatialIndex.isReady()) {
+            return searchByViewportInDatabase(bintype, boundingBox, level, cellSize);
+        }
+
+        List<IndexedBin> bins = binSpatialIndex.findInBoundingBox(bintype, boundingBox);
+
+        if (level < CLUSTERING_MAP_LEVEL && bins.size() <= MAX_SIZE_OF_VIEWPORT_BINS) {
+            return ViewportResponse.ofBins(bins.stream()
+                    .map(ViewportBin::from)
+                    .toList());
+        }
 
-        return searchQueryRepository.findBins(searchRequest, member.getId());
+        return ViewportResponse.ofClusters(cluster(bins, cellSize));
+    }
+
+    // 인덱스가 없을 때는 쓰레기통을 메모리로 모두 읽지 않도록 개수 제한과 클러스터 집계를 DB에서 한다.
+    private ViewportResponse searchByViewportInDatabase(BinType bintype, BoundingBox boundingBox, int level,
+                                                        double cellSize) {
+        if (level < CLUSTERING_MAP_LEVEL) {
+            List<IndexedBin> bins = searchQueryRepository.findSearchableBinsIn(bintype, boundingBox,
+                    MAX_SIZE_OF_VIEWPORT_BINS + 1);
+            if (bins.size() <= MAX_SIZE_OF_VIEWPORT_BINS) {
+                return ViewportResponse.ofBins(bins.stream()
+                        .map(ViewportBin::from)
+                        .toList());
+            }
+        }
+
+        return ViewportResponse.ofClusters(searchQueryRepository.findClustersIn(bintype, boundingBox, cellSize));
+    }
+
+    // 요청 범위가 레벨에 비해 너무 넓으면 중심을 기준으로 최대 범위만큼 줄인다.
+    private BoundingBox limitSpan(BoundingBox boundingBox, double maxSpan) {
+        double latitudeSpan = Math.min(boundingBox.getMaxLatitude() - boundingBox.getMinLatitude(), maxSpan);
+        double longitudeSpan = Math.min(boundingBox.getMaxLongitude() - boundingBox.getMinLongitude(), maxSpan);
+        double centerLatitude = (boundingBox.getMinLatitude() + boundingBox.getMaxLatitude()) / 2;
+        double centerLongitude = (boundingBox.getMinLongitude() + boundingBox.getMaxLongitude()) / 2;
+
+        return new BoundingBox(centerLatitude - latitudeSpan / 2, centerLongitude - longitudeSpan / 2,
+                centerLatitude + latitudeSpan / 2, centerLongitude + longitudeSpan / 2);
     }
 
     public List<SearchResult> searchByKeyword(
@@ -80,25 +225,87 @@ public class SearchService {
             throw new BadRequestException("잘못된 좌표입니다.");
         }
 
-        if(email == null){
-            return searchQueryRepository.findBinsByKeyword(
-                    longitude,
-                    latitude,
-                    targetLongitude,
-                    targetLatitude,
-                    null);
-        }
-
-        Member member = memberService.findByEmail(email);
         List<SearchResult> results = searchQueryRepository.findBinsByKeyword(
                 longitude,
                 latitude,
                 targetLongitude,
-                targetLatitude,
-                member.getId());
-        searchLogService.createSearchLog(member, keyword, address, results);
+                targetLatitude);
+
+        if(email == null){
+            return results;
+        }
+
+        Member member = memberService.findByEmail(email);
+        List<SearchResult> personalizedResults = markBookmarkedBins(results, member.getId());
+        searchLogService.createSearchLog(member, keyword, address, personalizedResults);
+
+        return personalizedResults;
+
+    }
+
+    // 회원과 무관한 위치 검색. 북마크 여부는 markBookmarkedBins에서 따로 표시한다.
+    private List<SearchResult> findBins(SearchRequest searchRequest) {
+        if (binSpatialIndex.isReady()) {
+            return toSearchResults(binSpatialIndex.findNearest(searchRequest.getType(), searchRequest.getLatitude(),
+                    searchRequest.getLongitude(), searchRequest.getRadius(), MAX_SIZE_OF_SEARCH_RESULT));
+        }
+        if (binTileCache.isEnabled()) {
+            return toSearchResults(binTileCache.findNearest(searchRequest.getType(), searchRequest.getLatitude(),
+                    searchRequest.getLongitude(), searchRequest.getRadius(), MAX_SIZE_OF_SEARCH_RESULT));
+        }
+        return searchQueryRepository.findBins(searchRequest);
+    }
+
+    private List<SearchResult> findNearestBins(BinType bintype, double latitude, double longitude, int size,
+                                               int maxDistance) {
+        if (binSpatialIndex.isReady()) {
+            return toSearchResults(binSpatialIndex.findNearestNeighbors(bintype, latitude, longitude, size,
+                    maxDistance));
+        }
+
+        // 좁은 반경부터 시작해 결과가 모자랄 때만 반경을 두 배씩 넓혀 다시 조회한다.
+        int distance = Math.min(INITIAL_DISTANCE_OF_NEAREST_SEARCH, maxDistance);
+        while (true) {
+            List<SearchResult> results = searchQueryRepository.findNearestBins(bintype, latitude, longitude, size,
+                    distance);
+            if (results.size() >= size || distance >= maxDistance) {
+                return results;
+            }
+            distance = Math.min(distance * 2, maxDistance);
+        }
+    }
+
+    private List<BinCluster> cluster(List<IndexedBin> bins, double cellSize) {
+        Map<String, List<IndexedBin>> binsByCell = new HashMap<>();
+        for (IndexedBin bin : bins) {
+            String cellKey = (long) Math.floor(bin.getLatitude() / cellSize) + ":"
+                    + (long) Math.floor(bin.getLongitude() / cellSize);
+            binsByCell.computeIfAbsent(cellKey, key -> new ArrayList<>()).add(bin);
+        }
+
+        return binsByCell.values().stream()
+                .map(cellBins -> new BinCluster(
+                        cellBins.stream().mapToDouble(IndexedBin::getLongitude).average().orElseThrow(),
+                        cellBins.stream().mapToDouble(IndexedBin::getLatitude).average().orElseThrow(),
+                        cellBins.size()))
+                .toList();
+    }
+
+    private List<SearchResult> toSearchResults(List<NearbyBin> nearbyBins) {
+        return nearbyBins.stream()
+                .map(nearbyBin -> nearbyBin.getBin().toSearchResult(false, nearbyBin.getDistance()))
+                .toList();
+    }
+
+    private List<SearchResult> markBookmarkedBins(List<SearchResult> results, Long memberId) {
+        List<Long> binIds = results.stream()
+                .map(SearchResult::getId)
+                .toList();
 
-        return results;
+        Set<Long> bookmarkedBinIds = memberBookmarkCache.findBookmarkedBinIds(memberId, binIds);
 
+        return results.stream()
+                .map(result -> result.withBookmarked(bookmarkedBinIds.contains(result.getId())))
+                .toList();
     }
 }
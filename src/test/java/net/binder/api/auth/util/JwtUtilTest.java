@@ -2,6 +2,7 @@ package net.binder.api.auth.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import net.binder.api.auth.dto.TokenClaims;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,4 +25,19 @@ class JwtUtilTest {
         assertThat(jwtUtil.getUsername(token)).isEqualTo(username);
         assertThat(jwtUtil.getRole(token)).isEqualTo(role);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("토큰을 한 번만 해석해 유저 이름, 권한, 만료 시각을 함께 얻을 수 있다.")
+    void parse() {
+        //given
+        String token = jwtUtil.generateToken("test", "ROLE_USER");
+
+        //when
+        TokenClaims tokenClaims = jwtUtil.parse(token);
+
+        //then
+        assertThat(tokenClaims.getUsername()).isEqualTo("test");
+        assertThat(tokenClaims.getRole()).isEqualTo("ROLE_USER");
+        assertThat(tokenClaims.isExpired(System.currentTimeMillis())).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package net.binder.api.bin.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import net.binder.api.bin.dto.BinDetailResponse;
+import net.binder.api.bin.dto.BinInfoForMember;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinRegistration;
+import net.binder.api.bin.entity.BinRegistrationStatus;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.repository.BinRepository;
+import net.binder.api.bin.util.PointUtil;
+import net.binder.api.bookmark.entity.Bookmark;
+import net.binder.api.bookmark.repository.BookmarkRepository;
+import net.binder.api.complaint.entity.Complaint;
+import net.binder.api.complaint.entity.ComplaintStatus;
+import net.binder.api.complaint.repository.ComplaintRepository;
+import net.binder.api.likeanddislike.entity.MemberLikeBin;
+import net.binder.api.likeanddislike.repository.MemberLikeBinRepository;
+import net.binder.api.member.entity.Member;
+import net.binder.api.member.entity.Role;
+import net.binder.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "bin.detail-cache.enabled=true")
+@Transactional
+class BinDetailCacheTest {
+
+    @Autowired
+    private BinService binService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BinRepository binRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private MemberLikeBinRepository memberLikeBinRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    private Member member;
+
+    private Bin bin;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(new Member("cache@email.com", "nickname", Role.ROLE_USER, null));
+
+        bin = new Bin("쓰레기통", BinType.GENERAL, PointUtil.getPoint(100d, 10d), "주소", 5L, 10L, 2L, "image.jpg", null);
+        bin.setBinRegistration(new BinRegistration(member, bin, BinRegistrationStatus.APPROVED));
+        binRepository.save(bin);
+
+        complaintRepository.save(new Complaint(bin, ComplaintStatus.PENDING, 3L));
+        memberLikeBinRepository.save(new MemberLikeBin(member, bin));
+        bookmarkRepository.save(new Bookmark(member, bin));
+    }
+
+    @Test
+    @DisplayName("로그인 유저 상세 조회를 공유 스냅샷과 회원별 id 집합으로 만든다.")
+    void getBinDetail_member() {
+        //when
+        BinDetailResponse binDetail = binService.getBinDetail(member.getEmail(), bin.getId());
+
+        //then
+        assertThat(binDetail.getTitle()).isEqualTo("쓰레기통");
+        assertThat(binDetail.getLongitude()).isEqualTo(100d);
+        assertThat(binDetail.getLatitude()).isEqualTo(10d);
+        assertThat(binDetail.getLikeCount()).isEqualTo(5);
+        assertThat(binDetail.getComplaintCount()).isEqualTo(3);
+
+        BinInfoForMember binInfoForMember = binDetail.getBinInfoForMember();
+        assertThat(binInfoForMember.getIsOwner()).isTrue();
+        assertThat(binInfoForMember.getIsLiked()).isTrue();
+        assertThat(binInfoForMember.getIsDisliked()).isFalse();
+        assertThat(binInfoForMember.getIsBookMarked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("비로그인 유저는 회원 정보 없이 같은 스냅샷을 받는다.")
+    void getBinDetail_anonymous() {
+        //given
+        binService.getBinDetail(member.getEmail(), bin.getId());
+
+        //when
+        BinDetailResponse binDetail = binService.getBinDetail(null, bin.getId());
+
+        //then
+        assertThat(binDetail.getId()).isEqualTo(bin.getId());
+        assertThat(binDetail.getBookmarkCount()).isEqualTo(2);
+        assertThat(binDetail.getBinInfoForMember()).isNull();
+    }
+}
@@ -0,0 +1,58 @@
+package net.binder.api.bin.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.binder.api.bin.repository.BinRegistrationRepository;
+import net.binder.api.bookmark.repository.BookmarkRepository;
+import net.binder.api.likeanddislike.repository.MemberDislikeBinRepository;
+import net.binder.api.likeanddislike.repository.MemberLikeBinRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemberBinFlagCacheTest {
+
+    @Test
+    @DisplayName("적재 도중 좋아요가 바뀌어 비워지면 커밋 전 데이터로 만든 항목을 캐시에 남기지 않는다.")
+    void evict_duringLoad() throws Exception {
+        //given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // 첫 적재는 좋아요가 커밋되기 전의 빈 목록을 읽은 상태로 멈춘다.
+        MemberLikeBinRepository memberLikeBinRepository = (MemberLikeBinRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class[]{MemberLikeBinRepository.class}, (proxy, method, args) -> {
+                    if (loadCount.incrementAndGet() == 1) {
+                        loading.countDown();
+                        committed.await(5, TimeUnit.SECONDS);
+                        return List.of();
+                    }
+                    return List.of(99L);
+                });
+        MemberBinFlagCache cache = new MemberBinFlagCache(emptyRepository(BinRegistrationRepository.class),
+                memberLikeBinRepository, emptyRepository(MemberDislikeBinRepository.class),
+                emptyRepository(BookmarkRepository.class), true, 600);
+
+        //when
+        CompletableFuture<?> staleLoad = CompletableFuture.runAsync(() -> cache.getFlags(1L, 99L));
+        loading.await(5, TimeUnit.SECONDS);
+        cache.evict(1L);
+        committed.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+
+        //then
+        assertThat(cache.getFlags(1L, 99L).getIsLiked()).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T emptyRepository(Class<T> repositoryType) {
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{repositoryType},
+                (proxy, method, args) -> List.of());
+    }
+}
@@ -0,0 +1,95 @@
+package net.binder.api.bin.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import net.binder.api.bin.dto.MemberBinFlags;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinRegistration;
+import net.binder.api.bin.entity.BinRegistrationStatus;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.repository.BinRepository;
+import net.binder.api.bin.util.PointUtil;
+import net.binder.api.bookmark.entity.Bookmark;
+import net.binder.api.bookmark.repository.BookmarkRepository;
+import net.binder.api.likeanddislike.entity.MemberDislikeBin;
+import net.binder.api.likeanddislike.entity.MemberLikeBin;
+import net.binder.api.likeanddislike.repository.MemberDislikeBinRepository;
+import net.binder.api.likeanddislike.repository.MemberLikeBinRepository;
+import net.binder.api.member.entity.Member;
+import net.binder.api.member.entity.Role;
+import net.binder.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class MemberBinFlagsResolverTest {
+
+    @Autowired
+    private MemberBinFlagsResolver memberBinFlagsResolver;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BinRepository binRepository;
+
+    @Autowired
+    private MemberLikeBinRepository memberLikeBinRepository;
+
+    @Autowired
+    private MemberDislikeBinRepository memberDislikeBinRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Test
+    @DisplayName("여러 쓰레기통의 등록/좋아요/싫어요/북마크 여부를 한 번에 조회한다.")
+    void resolve() {
+        //given
+        Member member = memberRepository.save(new Member("flags@email.com", "nickname", Role.ROLE_USER, null));
+        Member other = memberRepository.save(new Member("other@email.com", "other", Role.ROLE_USER, null));
+
+        Bin owned = createBin("title1");
+        owned.setBinRegistration(new BinRegistration(member, owned, BinRegistrationStatus.APPROVED));
+        binRepository.save(owned);
+        Bin liked = binRepository.save(createBin("title2"));
+        Bin disliked = binRepository.save(createBin("title3"));
+        Bin untouched = binRepository.save(createBin("title4"));
+
+        memberLikeBinRepository.save(new MemberLikeBin(member, liked));
+        memberLikeBinRepository.save(new MemberLikeBin(other, untouched));
+        memberDislikeBinRepository.save(new MemberDislikeBin(member, disliked));
+        bookmarkRepository.save(new Bookmark(member, liked));
+
+        //when
+        MemberBinFlags flags = memberBinFlagsResolver.resolve(member.getId(),
+                List.of(owned.getId(), liked.getId(), disliked.getId(), untouched.getId()));
+
+        //then
+        assertThat(flags.isOwner(owned.getId())).isTrue();
+        assertThat(flags.isLiked(liked.getId())).isTrue();
+        assertThat(flags.isBookmarked(liked.getId())).isTrue();
+        assertThat(flags.isDisliked(disliked.getId())).isTrue();
+        assertThat(flags.isLiked(untouched.getId())).isFalse();
+        assertThat(flags.isOwner(liked.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회할 쓰레기통이 없으면 쿼리 없이 빈 결과를 반환한다.")
+    void resolve_empty() {
+        //when
+        MemberBinFlags flags = memberBinFlagsResolver.resolve(1L, List.of());
+
+        //then
+        assertThat(flags.isLiked(1L)).isFalse();
+    }
+
+    private Bin createBin(String title) {
+        return new Bin(title, BinType.GENERAL, PointUtil.getPoint(126.97, 37.57), "address", 0L, 0L, 0L, null, null);
+    }
+}
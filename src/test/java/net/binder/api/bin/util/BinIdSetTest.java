@@ -0,0 +1,29 @@
+package net.binder.api.bin.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BinIdSetTest {
+
+    @Test
+    @DisplayName("추가, 삭제한 id는 기존 집합을 바꾸지 않고 새 집합에만 반영된다.")
+    void withAndWithout() {
+        //given
+        BinIdSet binIds = BinIdSet.of(List.of(30L, 10L, 20L, 10L));
+
+        //when
+        BinIdSet added = binIds.with(15L);
+        BinIdSet removed = added.without(20L);
+
+        //then
+        assertThat(binIds.contains(15L)).isFalse();
+        assertThat(added.contains(10L)).isTrue();
+        assertThat(added.contains(15L)).isTrue();
+        assertThat(removed.contains(15L)).isTrue();
+        assertThat(removed.contains(20L)).isFalse();
+        assertThat(removed.contains(30L)).isTrue();
+    }
+}
@@ -0,0 +1,43 @@
+package net.binder.api.bin.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoHashTest {
+
+    @Test
+    @DisplayName("좌표를 지오해시로 변환할 수 있다.")
+    void encode() {
+        //when
+        String geoHash = GeoHash.encode(57.64911, 10.40744, 11);
+
+        //then
+        assertThat(geoHash).isEqualTo("u4pruydqqvj");
+    }
+
+    @Test
+    @DisplayName("지오해시 셀은 변환에 사용한 좌표를 포함한다.")
+    void decode() {
+        //when
+        BoundingBox cell = GeoHash.decode(GeoHash.encode(37.4956241314633, 127.027722755059, 6));
+
+        //then
+        assertThat(cell.contains(37.4956241314633, 127.027722755059)).isTrue();
+    }
+
+    @Test
+    @DisplayName("주변 셀을 포함해 9개의 서로 다른 셀을 조회할 수 있다.")
+    void withNeighbors() {
+        //given
+        String geoHash = GeoHash.encode(37.4956241314633, 127.027722755059, 6);
+
+        //when
+        Set<String> geoHashes = GeoHash.withNeighbors(geoHash);
+
+        //then
+        assertThat(geoHashes).hasSize(9).contains(geoHash);
+    }
+}
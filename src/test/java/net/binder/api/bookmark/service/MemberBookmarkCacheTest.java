@@ -0,0 +1,48 @@
+package net.binder.api.bookmark.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.binder.api.bookmark.repository.BookmarkRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemberBookmarkCacheTest {
+
+    @Test
+    @DisplayName("적재 도중 북마크가 추가되면 커밋 전 데이터로 만든 집합을 캐시에 남기지 않는다.")
+    void add_duringLoad() throws Exception {
+        //given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // 첫 적재는 북마크 추가가 커밋되기 전의 빈 목록을 읽은 상태로 멈춘다.
+        BookmarkRepository bookmarkRepository = (BookmarkRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class[]{BookmarkRepository.class}, (proxy, method, args) -> {
+                    if (loadCount.incrementAndGet() == 1) {
+                        loading.countDown();
+                        committed.await(5, TimeUnit.SECONDS);
+                        return List.of();
+                    }
+                    return List.of(99L);
+                });
+        MemberBookmarkCache cache = new MemberBookmarkCache(bookmarkRepository, true, 600);
+
+        //when
+        CompletableFuture<?> staleLoad = CompletableFuture.runAsync(
+                () -> cache.findBookmarkedBinIds(1L, List.of(99L)));
+        loading.await(5, TimeUnit.SECONDS);
+        cache.add(1L, 99L);
+        committed.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+
+        //then
+        assertThat(cache.findBookmarkedBinIds(1L, List.of(99L))).containsExactly(99L);
+    }
+}
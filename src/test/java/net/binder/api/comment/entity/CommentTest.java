@@ -1,5 +1,6 @@
 package net.binder.api.comment.entity;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import net.binder.api.common.exception.BadRequestException;
@@ -14,4 +15,24 @@ class CommentTest {
         assertThatThrownBy(() -> new Comment(null, null, "a".repeat(61)))
                 .isInstanceOf(BadRequestException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("검증 대기 중인 댓글은 검증 결과에 따라 게시되거나 숨겨진다.")
+    void moderate() {
+        //given
+        Comment published = new Comment(null, null, "댓글");
+        Comment hidden = new Comment(null, null, "댓글");
+
+        //when
+        published.holdForModeration();
+        hidden.holdForModeration();
+        boolean isPending = published.isPendingModeration();
+        published.publish();
+        hidden.hide();
+
+        //then
+        assertThat(isPending).isTrue();
+        assertThat(published.getStatus()).isEqualTo(CommentStatus.PUBLISHED);
+        assertThat(hidden.getStatus()).isEqualTo(CommentStatus.HIDDEN);
+    }
+}
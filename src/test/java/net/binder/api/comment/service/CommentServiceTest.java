@@ -7,6 +7,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -24,6 +25,7 @@ import net.binder.api.comment.repository.CommentLikeRepository;
 import net.binder.api.comment.repository.CommentRepository;
 import net.binder.api.comment.repository.CommentSort;
 import net.binder.api.common.exception.BadRequestException;
+import net.binder.api.common.exception.NotFoundException;
 import net.binder.api.member.entity.Member;
 import net.binder.api.member.entity.Role;
 import net.binder.api.member.repository.MemberRepository;
@@ -473,7 +475,7 @@ class CommentServiceTest {
 
         //then
         List<CommentDislike> all = commentDislikeRepository.findAll();
-        assertThat(comment.getDislikeCount()).isEqualTo(1);
+        assertThat(findComment(comment).getDislikeCount()).isEqualTo(1);
         assertThat(all.size()).isEqualTo(1);
         assertThat(all).extracting(commentDislike -> commentDislike.getMember().getId())
                 .containsExactly(member.getId());
@@ -514,14 +516,14 @@ class CommentServiceTest {
         List<CommentDislike> commentDislikes = commentDislikeRepository.findAll();
         List<CommentLike> commentLikes = commentLikeRepository.findAll();
 
-        assertThat(comment.getDislikeCount()).isEqualTo(1);
+        assertThat(findComment(comment).getDislikeCount()).isEqualTo(1);
         assertThat(commentDislikes.size()).isEqualTo(1);
         assertThat(commentDislikes).extracting(commentDislike -> commentDislike.getMember().getId())
                 .containsExactly(member.getId());
         assertThat(commentDislikes).extracting(commentDislike -> commentDislike.getComment().getId())
                 .containsExactly(comment.getId());
         assertThat(commentLikes).size().isEqualTo(0);
-        assertThat(comment.getLikeCount()).isEqualTo(0);
+        assertThat(findComment(comment).getLikeCount()).isEqualTo(0);
     }
 
     @Test
@@ -532,6 +534,7 @@ class CommentServiceTest {
 
         ExecutorService executorService = Executors.newFixedThreadPool(count);
         CountDownLatch latch = new CountDownLatch(count);
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
 
         transactionTemplate.execute((status) -> {
             deleteAll(); // 혹시 존재할 수 있는 데이터 삭제
@@ -565,7 +568,7 @@ class CommentServiceTest {
 
                     commentService.createCommentLike(saved.getEmail(), comment.getId());
                 } catch (Exception e) {
-                    System.err.println(e.getMessage());
+                    exceptions.add(e);
                 } finally {
                     latch.countDown();
                 }
@@ -573,6 +576,7 @@ class CommentServiceTest {
         }
 
         latch.await();
+        assertThat(exceptions).isEmpty();
 
         Comment updated = commentRepository.findById(comment.getId()).get();
         assertThat(updated.getLikeCount()).isEqualTo(count);
@@ -599,7 +603,7 @@ class CommentServiceTest {
 
         //then
         List<CommentLike> all = commentLikeRepository.findAll();
-        assertThat(comment.getLikeCount()).isEqualTo(1);
+        assertThat(findComment(comment).getLikeCount()).isEqualTo(1);
         assertThat(all.size()).isEqualTo(1);
         assertThat(all).extracting(commentLike -> commentLike.getMember().getId()).containsExactly(member.getId());
         assertThat(all).extracting(commentLike -> commentLike.getComment().getId()).containsExactly(comment.getId());
@@ -637,14 +641,14 @@ class CommentServiceTest {
         List<CommentLike> commentLikes = commentLikeRepository.findAll();
         List<CommentDislike> commentDislikes = commentDislikeRepository.findAll();
 
-        assertThat(comment.getLikeCount()).isEqualTo(1);
+        assertThat(findComment(comment).getLikeCount()).isEqualTo(1);
         assertThat(commentLikes.size()).isEqualTo(1);
         assertThat(commentLikes).extracting(commentLike -> commentLike.getMember().getId())
                 .containsExactly(member.getId());
         assertThat(commentLikes).extracting(commentLike -> commentLike.getComment().getId())
                 .containsExactly(comment.getId());
         assertThat(commentDislikes).size().isEqualTo(0);
-        assertThat(comment.getDislikeCount()).isEqualTo(0);
+        assertThat(findComment(comment).getDislikeCount()).isEqualTo(0);
     }
 
     @Test
@@ -655,6 +659,7 @@ class CommentServiceTest {
 
         ExecutorService executorService = Executors.newFixedThreadPool(count);
         CountDownLatch latch = new CountDownLatch(count);
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
 
         transactionTemplate.execute((status) -> {
             deleteAll(); // 혹시 존재할 수 있는 데이터 삭제
@@ -688,7 +693,7 @@ class CommentServiceTest {
 
                     commentService.createCommentDislike(saved.getEmail(), comment.getId());
                 } catch (Exception e) {
-                    System.err.println(e.getMessage());
+                    exceptions.add(e);
                 } finally {
                     latch.countDown();
                 }
@@ -696,6 +701,7 @@ class CommentServiceTest {
         }
 
         latch.await();
+        assertThat(exceptions).isEmpty();
 
         Comment updated = commentRepository.findById(comment.getId()).get();
         assertThat(updated.getDislikeCount()).isEqualTo(count);
@@ -709,6 +715,84 @@ class CommentServiceTest {
         executorService.submit(this::deleteAll).get(); // 메인 트랜잭션에서 데이터 삭제 하면 다시 롤백되므로 다른 트랜잭션에서 삭제
     }
 
+    @Test
+    @DisplayName("300명이 동시에 좋아요, 싫어요로 변경, 좋아요 취소를 섞어 눌러도 최종 수가 반응 내역과 같다.")
+    void commentReactions_success_concurrent() throws InterruptedException, ExecutionException {
+        //given
+        int count = 300;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(50);
+        CountDownLatch latch = new CountDownLatch(count);
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
+
+        transactionTemplate.execute((status) -> {
+            deleteAll(); // 혹시 존재할 수 있는 데이터 삭제
+            return null;
+        });
+
+        List<Member> members = transactionTemplate.execute((status) -> {
+            List<Member> temp = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                temp.add(new Member("user" + i + "@email.com", "user" + i, Role.ROLE_USER, null));
+            }
+            return memberRepository.saveAll(temp);
+        });
+
+        Bin bin = transactionTemplate.execute((status) -> binRepository.save(
+                new Bin("title", BinType.GENERAL, PointUtil.getPoint(100d, 11d), "address1", 0L, 0L, 0L, null,
+                        null)));
+
+        Comment comment = transactionTemplate.execute(
+                (status) -> commentRepository.save(new Comment(members.get(0), bin, "댓글")));
+
+        //when
+        for (int i = 0; i < count; i++) {
+            int finalI = i;
+            executorService.submit(() -> {
+                try {
+                    String email = members.get(finalI).getEmail();
+                    commentService.createCommentLike(email, comment.getId());
+                    if (finalI % 3 == 0) { // 싫어요로 변경
+                        commentService.createCommentDislike(email, comment.getId());
+                    } else if (finalI % 3 == 1) { // 좋아요 취소
+                        commentService.deleteCommentLike(email, comment.getId());
+                    }
+                } catch (Exception e) {
+                    exceptions.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        //then
+        assertThat(exceptions).isEmpty();
+        Comment updated = commentRepository.findById(comment.getId()).get();
+        List<CommentLike> commentLikes = commentLikeRepository.findAll();
+        List<CommentDislike> commentDislikes = commentDislikeRepository.findAll();
+
+        assertThat(commentLikes).size().isEqualTo(count / 3);
+        assertThat(commentDislikes).size().isEqualTo(count / 3);
+        assertThat(updated.getLikeCount()).isEqualTo(commentLikes.size());
+        assertThat(updated.getDislikeCount()).isEqualTo(commentDislikes.size());
+
+        executorService.submit(this::deleteAll).get(); // 메인 트랜잭션에서 데이터 삭제 하면 다시 롤백되므로 다른 트랜잭션에서 삭제
+    }
+
+    @Test
+    @DisplayName("삭제된 댓글에 좋아요를 누르면 존재하지 않는 댓글 예외가 발생한다.")
+    void createCommentLike_fail_deleted() {
+        //given
+        Comment comment = commentRepository.save(new Comment(member, bin, "댓글"));
+        commentService.deleteComment(member.getEmail(), comment.getId());
+
+        //when & then
+        assertThatThrownBy(() -> commentService.createCommentLike(member.getEmail(), comment.getId()))
+                .isInstanceOf(NotFoundException.class);
+    }
+
     @Test
     @DisplayName("좋아요한 내역이 있으면 취소가 가능하다.")
     void deleteCommentLike_success() {
@@ -720,7 +804,7 @@ class CommentServiceTest {
         commentService.deleteCommentLike(member.getEmail(), comment.getId());
 
         //then
-        assertThat(comment.getLikeCount()).isEqualTo(0);
+        assertThat(findComment(comment).getLikeCount()).isEqualTo(0);
         assertThat(commentLikeRepository.findAll().size()).isEqualTo(0);
     }
 
@@ -735,7 +819,7 @@ class CommentServiceTest {
         commentService.deleteCommentDislike(member.getEmail(), comment.getId());
 
         //then
-        assertThat(comment.getDislikeCount()).isEqualTo(0);
+        assertThat(findComment(comment).getDislikeCount()).isEqualTo(0);
         assertThat(commentDislikeRepository.findAll().size()).isEqualTo(0);
     }
 
@@ -773,6 +857,11 @@ class CommentServiceTest {
 
     }
 
+    // 좋아요/싫어요 수는 UPDATE 문으로 바뀌므로 다시 조회한다.
+    private Comment findComment(Comment comment) {
+        return commentRepository.findById(comment.getId()).get();
+    }
+
     private void deleteAll() {
         commentLikeRepository.deleteAll();
         commentDislikeRepository.deleteAll();
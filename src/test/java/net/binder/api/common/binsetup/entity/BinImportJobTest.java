@@ -0,0 +1,27 @@
+package net.binder.api.common.binsetup.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BinImportJobTest {
+
+    @Test
+    @DisplayName("같은 경로라도 파일 크기나 수정 시각이 바뀌었다면 이어서 적재하지 않는다.")
+    void isResumableWith() {
+        //given
+        BinImportJob binImportJob = new BinImportJob("/data/bins.csv", "1024:1700000000000", BinImportMode.FULL);
+        binImportJob.fail("중단");
+
+        //when
+        boolean sameFile = binImportJob.isResumableWith("1024:1700000000000", BinImportMode.FULL);
+        boolean replacedFile = binImportJob.isResumableWith("2048:1700000900000", BinImportMode.FULL);
+        boolean otherMode = binImportJob.isResumableWith("1024:1700000000000", BinImportMode.INCREMENTAL);
+
+        //then
+        assertThat(sameFile).isTrue();
+        assertThat(replacedFile).isFalse();
+        assertThat(otherMode).isFalse();
+    }
+}
@@ -0,0 +1,30 @@
+package net.binder.api.common.binsetup.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PublicBinSnapshotTest {
+
+    @Test
+    @DisplayName("동기화가 삭제한 시각과 쓰레기통의 삭제 시각이 같을 때만 동기화가 삭제한 것으로 본다.")
+    void isBinDeletedBySync() {
+        //given
+        PublicBinSnapshot snapshot = new PublicBinSnapshot("hash", "/data/bins.csv", 1L);
+        LocalDateTime deletedBySync = LocalDateTime.of(2024, 9, 1, 3, 0);
+        snapshot.markRemoved();
+        snapshot.markBinDeleted(deletedBySync);
+
+        //when
+        boolean sameDeletion = snapshot.isBinDeletedBySync(deletedBySync);
+        boolean deletedByAdmin = snapshot.isBinDeletedBySync(deletedBySync.plusDays(1));
+        boolean notDeleted = snapshot.isBinDeletedBySync(null);
+
+        //then
+        assertThat(sameDeletion).isTrue();
+        assertThat(deletedByAdmin).isFalse();
+        assertThat(notDeleted).isFalse();
+    }
+}
@@ -0,0 +1,83 @@
+package net.binder.api.common.binsetup.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.repository.BinRepository;
+import net.binder.api.common.binsetup.dto.BinInsertResult;
+import net.binder.api.common.kakaomap.dto.ProcessedBinData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@SpringBootTest
+class BinBatchInsertRepositoryTest {
+
+    @Autowired
+    private BinBatchInsertRepository binBatchInsertRepository;
+
+    @Autowired
+    private BinRepository binRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("좌표를 경도, 위도 순서로 저장하고 이미 있는 쓰레기통은 중복으로 건너뛴다.")
+    void batchInsertInitialBins() {
+        //given
+        List<ProcessedBinData> bins = createBins(3);
+        binBatchInsertRepository.batchInsertInitialBins(bins.subList(0, 1));
+
+        //when
+        BinInsertResult result = binBatchInsertRepository.batchInsertInitialBins(bins);
+
+        //then
+        assertThat(result.getRequestedCount()).isEqualTo(3);
+        assertThat(result.getInsertedCount()).isEqualTo(2);
+        assertThat(result.getDuplicateCount()).isEqualTo(1);
+
+        Bin bin = binRepository.findAll().stream()
+                .filter(saved -> saved.getAddress().equals(bins.get(0).getAddress()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(bin.getPoint().getX()).isCloseTo(bins.get(0).getLongitude(), within(0.0000001));
+        assertThat(bin.getPoint().getY()).isCloseTo(bins.get(0).getLatitude(), within(0.0000001));
+    }
+
+    @Test
+    @DisplayName("한 문장에 담을 행 수를 넘으면 여러 INSERT로 나누어 모두 저장한다.")
+    void batchInsertInitialBins_split() {
+        //given
+        BinBatchInsertRepository smallBatchRepository = new BinBatchInsertRepository(jdbcTemplate, 2);
+        List<ProcessedBinData> bins = createBins(5);
+
+        //when
+        BinInsertResult result = smallBatchRepository.batchInsertInitialBins(bins);
+
+        //then
+        assertThat(result.getRequestedCount()).isEqualTo(5);
+        assertThat(result.getInsertedCount()).isEqualTo(5);
+        assertThat(result.getDuplicateCount()).isZero();
+    }
+
+    private List<ProcessedBinData> createBins(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ProcessedBinData.builder()
+                        .title("대량 적재 테스트 " + i)
+                        .address("서울 서초구 대량적재로 " + i)
+                        .type(i % 2 == 0 ? BinType.GENERAL : BinType.RECYCLE)
+                        .longitude(127.0 + i * 0.000001)
+                        .latitude(37.5 + i * 0.000001)
+                        .build())
+                .toList();
+    }
+}
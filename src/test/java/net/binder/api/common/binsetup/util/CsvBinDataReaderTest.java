@@ -0,0 +1,53 @@
+package net.binder.api.common.binsetup.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.common.binsetup.dto.PublicBinData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CsvBinDataReaderTest {
+
+    @Test
+    @DisplayName("큰따옴표로 감싼 필드 안의 쉼표와 이스케이프된 큰따옴표를 하나의 값으로 읽는다.")
+    void parseLine() {
+        //when
+        List<String> fields = CsvBinDataReader.parseLine("1,서초구,\"강남대로 1, 2층\",\"\"\"정문\"\" 앞\",,일반쓰레기");
+
+        //then
+        assertThat(fields).containsExactly("1", "서초구", "강남대로 1, 2층", "\"정문\" 앞", "", "일반쓰레기");
+    }
+
+    @Test
+    @DisplayName("헤더와 빈 줄을 건너뛰고 엑셀과 같은 열 구성으로 변환한다.")
+    void read(@TempDir Path tempDir) throws IOException {
+        //given
+        Path path = tempDir.resolve("bins.csv");
+        Files.writeString(path, String.join("\n",
+                "\uFEFF연번,자치구명,도로명주소,세부위치,설치장소유형,수거쓰레기종류",
+                "1,서초구,강남대로 1,버스정류장 앞 ,가로변,일반쓰레기",
+                "",
+                "2,강남구,테헤란로 2,\"역 출구, 2번\",가로변,재활용쓰레기"), StandardCharsets.UTF_8);
+
+        List<PublicBinData> result = new ArrayList<>();
+
+        //when
+        new CsvBinDataReader(StandardCharsets.UTF_8).read(path, result::add);
+
+        //then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getAddress()).isEqualTo("서초구 강남대로 1");
+        assertThat(result.get(0).getTitle()).isEqualTo("버스정류장 앞");
+        assertThat(result.get(0).getType()).isEqualTo(BinType.GENERAL);
+        assertThat(result.get(1).getTitle()).isEqualTo("역 출구, 2번");
+        assertThat(result.get(1).getType()).isEqualTo(BinType.RECYCLE);
+    }
+}
@@ -0,0 +1,37 @@
+package net.binder.api.common.binsetup.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.common.binsetup.dto.PublicBinData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PublicBinHasherTest {
+
+    @Test
+    @DisplayName("공백 차이만 있는 행은 같은 해시를 갖는다.")
+    void hash_ignoresWhitespace() {
+        //given
+        PublicBinData original = new PublicBinData("버스정류장 앞", "서초구 강남대로 1", BinType.GENERAL, null);
+        PublicBinData spaced = new PublicBinData(" 버스정류장  앞 ", "서초구  강남대로 1", BinType.GENERAL, null);
+
+        //when
+        String originalHash = PublicBinHasher.hash(original);
+        String spacedHash = PublicBinHasher.hash(spaced);
+
+        //then
+        assertThat(originalHash).hasSize(64).isEqualTo(spacedHash);
+    }
+
+    @Test
+    @DisplayName("위치가 같아도 쓰레기통 종류가 다르면 다른 행으로 본다.")
+    void hash_differsByType() {
+        //given
+        PublicBinData general = new PublicBinData("신촌역로14", "서대문구 신촌역로 14", BinType.GENERAL, null);
+        PublicBinData recycle = new PublicBinData("신촌역로14", "서대문구 신촌역로 14", BinType.RECYCLE, null);
+
+        //when, then
+        assertThat(PublicBinHasher.hash(general)).isNotEqualTo(PublicBinHasher.hash(recycle));
+    }
+}
@@ -0,0 +1,53 @@
+package net.binder.api.common.binsetup.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("버킷이 비면 초당 채워지는 양만큼만 다시 획득할 수 있다.")
+    void tryAcquire() {
+        //given
+        AtomicLong now = new AtomicLong();
+        TokenBucket tokenBucket = new TokenBucket(2, 1, now::get);
+
+        //when
+        boolean first = tokenBucket.tryAcquire();
+        boolean second = tokenBucket.tryAcquire();
+        boolean third = tokenBucket.tryAcquire();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        boolean afterOneSecond = tokenBucket.tryAcquire();
+        boolean afterOneSecondAgain = tokenBucket.tryAcquire();
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(afterOneSecond).isTrue();
+        assertThat(afterOneSecondAgain).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 최대 용량 이상으로 쌓이지 않는다.")
+    void tryAcquire_capacity() {
+        //given
+        AtomicLong now = new AtomicLong();
+        TokenBucket tokenBucket = new TokenBucket(2, 1, now::get);
+
+        //when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        int acquired = 0;
+        while (tokenBucket.tryAcquire()) {
+            acquired++;
+        }
+
+        //then
+        assertThat(acquired).isEqualTo(2);
+    }
+}
@@ -0,0 +1,49 @@
+package net.binder.api.common.kakaomap.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.binder.api.common.kakaomap.dto.GeocodeResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeocodeCacheTest {
+
+    private final GeocodeCache geocodeCache = new GeocodeCache(null, null, new SimpleMeterRegistry(), true, false,
+            2, 60, 60);
+
+    @Test
+    @DisplayName("공백만 다른 주소는 같은 주소로 정규화된다.")
+    void normalize() {
+        assertThat(GeocodeCache.normalize("  서울 종로구   사직로 125 "))
+                .isEqualTo(GeocodeCache.normalize("서울 종로구 사직로 125"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 주소도 캐시된다.")
+    void put_notFound() {
+        //given
+        geocodeCache.put("없는 주소", GeocodeResult.notFound());
+
+        //when //then
+        assertThat(geocodeCache.get("없는  주소"))
+                .hasValueSatisfying(geocodeResult -> assertThat(geocodeResult.isFound()).isFalse());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 주소부터 제거된다.")
+    void put_evictLeastRecentlyUsed() {
+        //given
+        geocodeCache.put("주소1", GeocodeResult.notFound());
+        geocodeCache.put("주소2", GeocodeResult.notFound());
+        geocodeCache.get("주소1");
+
+        //when
+        geocodeCache.put("주소3", GeocodeResult.notFound());
+
+        //then
+        assertThat(geocodeCache.get("주소1")).isPresent();
+        assertThat(geocodeCache.get("주소2")).isEmpty();
+        assertThat(geocodeCache.get("주소3")).isPresent();
+    }
+}
@@ -0,0 +1,98 @@
+package net.binder.api.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.binder.api.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OutboundCallGuardTest {
+
+    private static final String NAME = "test";
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboundCallGuard outboundCallGuard;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        meterRegistry = new SimpleMeterRegistry();
+
+        outboundCallGuard = new OutboundCallGuard(circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("실패가 누적되어 서킷이 열리면 외부 API를 호출하지 않고 거절한다.")
+    void call_circuitOpen() {
+        //given
+        AtomicInteger callCount = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> outboundCallGuard.call(NAME, () -> {
+                callCount.incrementAndGet();
+                throw new IllegalStateException("timeout");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        //when //then
+        assertThatThrownBy(() -> outboundCallGuard.call(NAME, callCount::incrementAndGet))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(callCount.get()).isEqualTo(4);
+        assertThat(circuitBreakerRegistry.circuitBreaker(NAME).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.counter("outbound.call.rejected", "name", NAME, "reason", "circuit_open").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수가 가득 차면 대기하지 않고 거절한다.")
+    void call_bulkheadFull() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        executorService.submit(() -> outboundCallGuard.call(NAME, () -> {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        //when //then
+        assertThatThrownBy(() -> outboundCallGuard.call(NAME, () -> "second"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.counter("outbound.call.rejected", "name", NAME, "reason", "bulkhead_full").count())
+                .isEqualTo(1);
+
+        release.countDown();
+        executorService.shutdown();
+    }
+}
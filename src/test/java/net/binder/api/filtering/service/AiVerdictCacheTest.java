@@ -0,0 +1,45 @@
+package net.binder.api.filtering.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.text.Normalizer;
+import java.util.List;
+import net.binder.api.filtering.dto.CurseCheckResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AiVerdictCacheTest {
+
+    @Test
+    @DisplayName("공백과 대소문자만 다른 본문은 같은 본문으로 정규화된다.")
+    void normalize_whitespaceAndCase() {
+        assertThat(AiVerdictCache.normalize("이건  욕설이 \n아니에요 OK"))
+                .isEqualTo(AiVerdictCache.normalize("이건 욕설이 아니에요 ok"));
+    }
+
+    @Test
+    @DisplayName("완성형과 조합형으로 입력된 한글은 같은 본문으로 정규화된다.")
+    void normalize_jamo() {
+        String composed = "쓰레기통";
+        String decomposed = Normalizer.normalize(composed, Normalizer.Form.NFD);
+
+        assertThat(AiVerdictCache.normalize(decomposed)).isEqualTo(AiVerdictCache.normalize(composed));
+    }
+
+    @Test
+    @DisplayName("캐시된 욕설 단어 중 이번 본문에 없는 단어는 돌려주지 않는다.")
+    void get_wordsInTarget() {
+        //given
+        AiVerdictCache aiVerdictCache = new AiVerdictCache(null, null, new SimpleMeterRegistry(), true, false, 60,
+                60);
+        aiVerdictCache.put("이 바보 Idiot 야", new CurseCheckResult(true, List.of("바보", "idiot", "멍청이"), false));
+
+        //when
+        CurseCheckResult result = aiVerdictCache.get("이바보   idiot야").orElseThrow();
+
+        //then
+        assertThat(result.isCurse()).isTrue();
+        assertThat(result.getWords()).containsExactly("바보", "idiot");
+    }
+}
@@ -0,0 +1,62 @@
+package net.binder.api.filtering.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CurseAutomatonTest {
+
+    @Test
+    @DisplayName("본문에 포함된 욕설을 모두 찾을 수 있다.")
+    void findWords() {
+        //given
+        CurseAutomaton automaton = new CurseAutomaton(List.of("시1발", "개1새1끼", "바보"));
+
+        //when
+        List<String> words = automaton.findWords("야 이 개1새1끼야 시1발");
+
+        //then
+        assertThat(words).containsExactlyInAnyOrder("개1새1끼", "시1발");
+    }
+
+    @Test
+    @DisplayName("다른 욕설의 일부이거나 서로 겹치는 욕설도 찾을 수 있다.")
+    void findWords_overlapped() {
+        //given
+        CurseAutomaton automaton = new CurseAutomaton(List.of("he", "she", "his", "hers"));
+
+        //when
+        List<String> words = automaton.findWords("ushers");
+
+        //then
+        assertThat(words).containsExactlyInAnyOrder("she", "he", "hers");
+    }
+
+    @Test
+    @DisplayName("영문 욕설은 대소문자를 구분하지 않고 찾는다.")
+    void findWords_ignoreCase() {
+        //given
+        CurseAutomaton automaton = new CurseAutomaton(List.of("Fuck", "shit"));
+
+        //when
+        List<String> words = automaton.findWords("FuCk this SHIT");
+
+        //then
+        assertThat(words).containsExactlyInAnyOrder("Fuck", "shit");
+    }
+
+    @Test
+    @DisplayName("욕설이 없다면 빈 목록을 반환한다.")
+    void findWords_noCurse() {
+        //given
+        CurseAutomaton automaton = new CurseAutomaton(List.of("시1발", "개1새1끼"));
+
+        //when
+        List<String> words = automaton.findWords("이건 욕설이 아니에요");
+
+        //then
+        assertThat(words).isEmpty();
+    }
+}
@@ -0,0 +1,119 @@
+package net.binder.api.likeanddislike.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.repository.BinRepository;
+import net.binder.api.bin.util.PointUtil;
+import net.binder.api.likeanddislike.dto.BinReactionDelta;
+import net.binder.api.likeanddislike.entity.MemberDislikeBin;
+import net.binder.api.likeanddislike.entity.MemberLikeBin;
+import net.binder.api.member.entity.Member;
+import net.binder.api.member.entity.Role;
+import net.binder.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class BinReactionCountRepositoryTest {
+
+    @Autowired
+    private BinReactionCountRepository binReactionCountRepository;
+
+    @Autowired
+    private BinRepository binRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberLikeBinRepository memberLikeBinRepository;
+
+    @Autowired
+    private MemberDislikeBinRepository memberDislikeBinRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Bin bin;
+
+    @BeforeEach
+    void setUp() {
+        // 반응 행은 좋아요 2개, 싫어요 1개지만 수는 어긋나 있다.
+        bin = binRepository.save(new Bin("title", BinType.GENERAL,
+                PointUtil.getPoint(126.971969841012, 37.578567094578), "address", 10L, 0L, 0L, null, null));
+        Member first = memberRepository.save(new Member("count1@gmail.com", "테스트1", Role.ROLE_USER, null));
+        Member second = memberRepository.save(new Member("count2@gmail.com", "테스트2", Role.ROLE_USER, null));
+        memberLikeBinRepository.saveAll(List.of(
+                MemberLikeBin.builder().member(first).bin(bin).build(),
+                MemberLikeBin.builder().member(second).bin(bin).build()));
+        memberDislikeBinRepository.save(MemberDislikeBin.builder().member(first).bin(bin).build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("반응 행을 기준으로 어긋난 좋아요/싫어요 수를 다시 계산한다.")
+    void reconcile() {
+        //when
+        int fixedCount = binReactionCountRepository.reconcile(bin.getId(), bin.getId(), List.of());
+
+        //then
+        Bin reconciled = findBin();
+        assertThat(fixedCount).isEqualTo(1);
+        assertThat(reconciled.getLikeCount()).isEqualTo(2);
+        assertThat(reconciled.getDislikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("아직 반영되지 않은 증감분은 다시 계산한 값에서 뺀다.")
+    void reconcile_subtractPending() {
+        //given
+        List<BinReactionDelta> pending = List.of(new BinReactionDelta(bin.getId(), 1, 1));
+
+        //when
+        binReactionCountRepository.reconcile(bin.getId(), bin.getId(), pending);
+
+        //then
+        Bin reconciled = findBin();
+        assertThat(reconciled.getLikeCount()).isEqualTo(1);
+        assertThat(reconciled.getDislikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("수가 맞는 쓰레기통은 고치지 않는다.")
+    void reconcile_alreadyCorrect() {
+        //given
+        binReactionCountRepository.reconcile(bin.getId(), bin.getId(), List.of());
+
+        //when
+        int fixedCount = binReactionCountRepository.reconcile(bin.getId(), bin.getId(), List.of());
+
+        //then
+        assertThat(fixedCount).isZero();
+    }
+
+    @Test
+    @DisplayName("수를 바로 더하면 같은 영속성 컨텍스트의 엔티티도 새 값을 본다.")
+    void addCounts() {
+        //when
+        binReactionCountRepository.addCounts(bin, 1, 1);
+
+        //then
+        assertThat(bin.getLikeCount()).isEqualTo(11);
+        assertThat(bin.getDislikeCount()).isEqualTo(1);
+        assertThat(findBin().getLikeCount()).isEqualTo(11);
+    }
+
+    private Bin findBin() {
+        entityManager.clear();
+        return binRepository.findById(bin.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,176 @@
+package net.binder.api.likeanddislike.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.service.BinDetailCache;
+import net.binder.api.bin.util.PointUtil;
+import net.binder.api.likeanddislike.dto.BinReactionDelta;
+import net.binder.api.likeanddislike.repository.BinReactionCountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class BinReactionCounterTest {
+
+    private final BinDetailCache binDetailCache = new BinDetailCache(null, null, false, 5);
+
+    @Test
+    @DisplayName("동시에 누른 좋아요/싫어요를 잃지 않고 쓰레기통마다 한 번에 반영한다.")
+    void flush() throws InterruptedException {
+        //given
+        RecordingRepository repository = new RecordingRepository();
+        BinReactionCounter counter = new BinReactionCounter(repository, binDetailCache, true);
+        Bin bin = createBin(1L);
+
+        int threadCount = 16;
+        int reactionsPerThread = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < reactionsPerThread; j++) {
+                    counter.increaseLike(bin);
+                    if (j % 2 == 0) {
+                        counter.increaseDislike(bin);
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+        counter.flush();
+
+        //then
+        assertThat(repository.updates).hasSize(1);
+        BinReactionDelta delta = repository.updates.get(0).get(0);
+        assertThat(delta.getBinId()).isEqualTo(1L);
+        assertThat(delta.getLikeDelta()).isEqualTo(threadCount * reactionsPerThread);
+        assertThat(delta.getDislikeDelta()).isEqualTo(threadCount * reactionsPerThread / 2);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감분은 다음 반영 때 다시 쓴다.")
+    void flush_retryAfterFailure() {
+        //given
+        RecordingRepository repository = new RecordingRepository();
+        BinReactionCounter counter = new BinReactionCounter(repository, binDetailCache, true);
+        Bin bin = createBin(1L);
+
+        counter.increaseLike(bin);
+        counter.increaseLike(bin);
+        counter.decreaseLike(bin);
+        repository.failNext = true;
+        counter.flush();
+
+        //when
+        counter.flush();
+
+        //then
+        assertThat(repository.updates).hasSize(1);
+        assertThat(repository.updates.get(0).get(0).getLikeDelta()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모아 두기를 끄면 엔티티를 고쳐 쓰지 않고 원자적인 UPDATE로 바로 반영한다.")
+    void disabled() {
+        //given
+        RecordingRepository repository = new RecordingRepository();
+        BinReactionCounter counter = new BinReactionCounter(repository, binDetailCache, false);
+        Bin bin = createBin(1L);
+
+        //when
+        counter.increaseLike(bin);
+        counter.decreaseDislike(bin);
+        counter.flush();
+
+        //then
+        assertThat(repository.updates).hasSize(2);
+        assertThat(repository.updates.get(0).get(0).getLikeDelta()).isEqualTo(1);
+        assertThat(repository.updates.get(1).get(0).getDislikeDelta()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("재계산할 때는 해당 범위에 남아 있는 증감분을 함께 넘겨 다시 계산한 값에서 빼게 한다.")
+    void reconcile_subtractPending() {
+        //given
+        RecordingRepository repository = new RecordingRepository();
+        BinReactionCounter counter = new BinReactionCounter(repository, binDetailCache, true);
+        repository.maxBinId = 1500;
+
+        // 재계산 직전 반영이 실패해 증감분이 남아 있는 상태
+        repository.failNext = true;
+        counter.increaseLike(createBin(7L));
+        counter.increaseDislike(createBin(1200L));
+
+        //when
+        counter.reconcile();
+
+        //then
+        assertThat(repository.reconciledRanges).containsExactly("1-1000", "1001-2000");
+        assertThat(repository.reconciledPending.get(0)).extracting(BinReactionDelta::getBinId)
+                .containsExactly(7L);
+        assertThat(repository.reconciledPending.get(1)).extracting(BinReactionDelta::getBinId)
+                .containsExactly(1200L);
+        assertThat(repository.reconciledPending.get(1).get(0).getDislikeDelta()).isEqualTo(1);
+    }
+
+    private Bin createBin(Long id) {
+        Bin bin = new Bin("title", BinType.GENERAL, PointUtil.getPoint(127d, 37d), "address", 0L, 0L, 0L, null, null);
+        ReflectionTestUtils.setField(bin, "id", id);
+        return bin;
+    }
+
+    private static class RecordingRepository extends BinReactionCountRepository {
+
+        private final List<List<BinReactionDelta>> updates = new ArrayList<>();
+
+        private boolean failNext;
+
+        private long maxBinId;
+
+        private final List<String> reconciledRanges = new ArrayList<>();
+
+        private final List<List<BinReactionDelta>> reconciledPending = new ArrayList<>();
+
+        private RecordingRepository() {
+            super(null, null);
+        }
+
+        @Override
+        public long findMaxBinId() {
+            return maxBinId;
+        }
+
+        @Override
+        public int reconcile(long fromId, long toId, List<BinReactionDelta> pending) {
+            reconciledRanges.add(fromId + "-" + toId);
+            reconciledPending.add(pending);
+            return 0;
+        }
+
+        @Override
+        public void addCounts(Bin bin, long likeDelta, long dislikeDelta) {
+            updates.add(List.of(new BinReactionDelta(bin.getId(), likeDelta, dislikeDelta)));
+        }
+
+        @Override
+        public void addCounts(List<BinReactionDelta> deltas) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("db down");
+            }
+            updates.add(deltas);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package net.binder.api.likeanddislike.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.repository.BinRepository;
+import net.binder.api.bin.util.PointUtil;
+import net.binder.api.likeanddislike.dto.BinReactionResponse;
+import net.binder.api.likeanddislike.entity.BinReaction;
+import net.binder.api.likeanddislike.entity.MemberDislikeBin;
+import net.binder.api.likeanddislike.repository.MemberDislikeBinRepository;
+import net.binder.api.likeanddislike.repository.MemberLikeBinRepository;
+import net.binder.api.member.entity.Member;
+import net.binder.api.member.entity.Role;
+import net.binder.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Transactional
+@SpringBootTest
+class BinReactionServiceTest {
+
+    @Autowired
+    private BinReactionService binReactionService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BinRepository binRepository;
+
+    @Autowired
+    private MemberLikeBinRepository memberLikeBinRepository;
+
+    @Autowired
+    private MemberDislikeBinRepository memberDislikeBinRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Member member;
+
+    private Bin bin;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        member = memberRepository.save(
+                new Member("reaction@gmail.com", "테스트", Role.ROLE_USER, "http://example.com/image.jpg"));
+        bin = binRepository.save(new Bin("title", BinType.GENERAL,
+                PointUtil.getPoint(126.971969841012, 37.578567094578), "address", 0L, 0L, 0L, null, null));
+    }
+
+    @Test
+    @DisplayName("좋아요 상태에서 싫어요로 바꾸면 좋아요가 취소되고 싫어요가 추가된다.")
+    void react_likeToDislike() {
+        //given
+        binReactionService.react(member.getEmail(), bin.getId(), BinReaction.LIKE);
+
+        //when
+        BinReactionResponse response = binReactionService.react(member.getEmail(), bin.getId(), BinReaction.DISLIKE);
+
+        //then
+        assertThat(response.getLikeCount()).isEqualTo(0L);
+        assertThat(response.getDislikeCount()).isEqualTo(1L);
+        assertThat(memberLikeBinRepository.existsByMember_IdAndBin_Id(member.getId(), bin.getId())).isFalse();
+        assertThat(memberDislikeBinRepository.existsByMember_IdAndBin_Id(member.getId(), bin.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 반응을 다시 요청해도 수가 변하지 않는다.")
+    void react_sameReactionTwice() {
+        //given
+        binReactionService.react(member.getEmail(), bin.getId(), BinReaction.LIKE);
+
+        //when
+        BinReactionResponse response = binReactionService.react(member.getEmail(), bin.getId(), BinReaction.LIKE);
+
+        //then
+        assertThat(response.getLikeCount()).isEqualTo(1L);
+        assertThat(response.getDislikeCount()).isEqualTo(0L);
+        assertThat(memberLikeBinRepository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("NONE으로 바꾸면 좋아요와 싫어요가 모두 사라진다.")
+    void react_none() {
+        //given
+        binReactionService.react(member.getEmail(), bin.getId(), BinReaction.DISLIKE);
+
+        //when
+        BinReactionResponse response = binReactionService.react(member.getEmail(), bin.getId(), BinReaction.NONE);
+
+        //then
+        assertThat(response.getLikeCount()).isEqualTo(0L);
+        assertThat(response.getDislikeCount()).isEqualTo(0L);
+        assertThat(memberDislikeBinRepository.existsByMember_IdAndBin_Id(member.getId(), bin.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("200명이 동시에 같은 쓰레기통에 싫어요와 취소를 섞어 눌러도 교착 상태 없이 최종 수가 반응 내역과 같다.")
+    void react_concurrent() throws InterruptedException, ExecutionException {
+        //given
+        int count = 200;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(50);
+        CountDownLatch latch = new CountDownLatch(count);
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
+
+        List<Member> members = transactionTemplate.execute((status) -> {
+            List<Member> temp = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                temp.add(new Member("reactor" + i + "@email.com", "reactor" + i, Role.ROLE_USER, null));
+            }
+            return memberRepository.saveAll(temp);
+        });
+
+        Bin sharedBin = transactionTemplate.execute((status) -> binRepository.save(
+                new Bin("shared", BinType.GENERAL, PointUtil.getPoint(100d, 11d), "shared address", 0L, 0L, 0L, null,
+                        null)));
+
+        //when
+        // 좋아요는 알림을 비동기로 남기므로 정리가 간단한 싫어요와 취소만 섞는다. 두 경로 모두 반응 행을 쓴 뒤 수를 증감한다.
+        for (int i = 0; i < count; i++) {
+            int finalI = i;
+            executorService.submit(() -> {
+                try {
+                    String email = members.get(finalI).getEmail();
+                    binReactionService.react(email, sharedBin.getId(), BinReaction.DISLIKE);
+                    if (finalI % 2 == 0) {
+                        binReactionService.react(email, sharedBin.getId(), BinReaction.NONE);
+                    }
+                } catch (Exception e) {
+                    exceptions.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        //then
+        assertThat(exceptions).isEmpty();
+        Long dislikeCount = transactionTemplate.execute(
+                (status) -> binRepository.findById(sharedBin.getId()).get().getDislikeCount());
+        List<MemberDislikeBin> dislikes = transactionTemplate.execute((status) -> memberDislikeBinRepository.findAll()
+                .stream()
+                .filter(dislike -> dislike.getBin().getId().equals(sharedBin.getId()))
+                .toList());
+
+        assertThat(dislikes).hasSize(count / 2);
+        assertThat(dislikeCount).isEqualTo(count / 2);
+
+        // 메인 트랜잭션에서 데이터 삭제 하면 다시 롤백되므로 다른 트랜잭션에서 삭제
+        executorService.submit(() -> transactionTemplate.executeWithoutResult((status) -> {
+            memberDislikeBinRepository.deleteAll(dislikes);
+            binRepository.deleteById(sharedBin.getId());
+            memberRepository.deleteAll(members);
+        })).get();
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,89 @@
+package net.binder.api.search.repository;
+
+import static net.binder.api.bin.entity.QBin.bin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import net.binder.api.bin.entity.Bin;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.repository.BinRepository;
+import net.binder.api.bin.util.BoundingBox;
+import net.binder.api.bin.util.PointUtil;
+import net.binder.api.bin.util.SpatialExpressions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@SpringBootTest
+class SearchQueryRepositoryTest {
+
+    private static final int KEY_COLUMN = 6;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    private BinRepository binRepository;
+
+    @Test
+    @DisplayName("바운딩 박스 조건은 idx_bin_point 공간 인덱스를 사용한다.")
+    void boundingBox_usesSpatialIndex() {
+        //given
+        List<Bin> bins = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < 20; j++) {
+                bins.add(new Bin("title" + i + "-" + j, BinType.GENERAL,
+                        PointUtil.getPoint(126.5 + i * 0.05, 37.0 + j * 0.05), "address", 0L, 0L, 0L, null, null));
+            }
+        }
+        binRepository.saveAll(bins);
+        entityManager.flush();
+
+        BoundingBox boundingBox = BoundingBox.around(37.4956241314633, 127.027722755059, 500);
+
+        //when
+        List<Object[]> plan = explain(
+                "SELECT b.id FROM bin b WHERE MBRContains(ST_GeomFromText(:envelope, 4326), b.point)",
+                boundingBox.toWkt());
+
+        //then
+        assertThat(plan).extracting(row -> String.valueOf(row[KEY_COLUMN]))
+                .containsExactly("idx_bin_point");
+    }
+
+    @Test
+    @DisplayName("저장된 좌표와 검색 좌표 사이의 거리를 경도, 위도 순서로 계산한다.")
+    void distanceSphere() {
+        //given
+        Bin cityHall = binRepository.save(new Bin("서울시청", BinType.GENERAL,
+                PointUtil.getPoint(126.9779692, 37.566535), "서울 중구 세종대로 110", 0L, 0L, 0L, null, null));
+        entityManager.flush();
+
+        //when 서울시청 -> 강남역
+        Double distance = jpaQueryFactory
+                .select(SpatialExpressions.distanceSphere(bin.point, 37.497942, 127.027621))
+                .from(bin)
+                .where(bin.id.eq(cityHall.getId()))
+                .fetchOne();
+
+        //then
+        assertThat(distance).isCloseTo(8794.5, within(1.0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> explain(String sql, String wkt) {
+        return entityManager.createNativeQuery("EXPLAIN " + sql)
+                .setParameter("envelope", wkt)
+                .getResultList();
+    }
+}
@@ -0,0 +1,121 @@
+package net.binder.api.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import net.binder.api.bin.entity.BinType;
+import net.binder.api.bin.util.BoundingBox;
+import net.binder.api.search.dto.IndexedBin;
+import net.binder.api.search.dto.NearbyBin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BinSpatialIndexTest {
+
+    private static final double LATITUDE = 37.4956241314633;
+
+    private static final double LONGITUDE = 127.027722755059;
+
+    private BinSpatialIndex binSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        binSpatialIndex = new BinSpatialIndex(null, true);
+        binSpatialIndex.load(List.of(
+                new IndexedBin(1L, "서초동 1327-5", "서울 서초구 서초대로78길 24", BinType.CIGAR, 37.495544565616,
+                        127.027752353367),
+                new IndexedBin(2L, "서초동 1330-18", "서울 서초구 서초대로78길 42", BinType.CIGAR, 37.49402562647,
+                        127.028224355185),
+                new IndexedBin(3L, "던킨도너츠 앞", "서울 서초구 강남대로 373", BinType.RECYCLE, 37.495982934664,
+                        127.028010119934),
+                new IndexedBin(4L, "먼 쓰레기통", "서울 강남구 테헤란로 152", BinType.GENERAL, 37.500,
+                        127.040)
+        ));
+    }
+
+    @Test
+    @DisplayName("반경 내의 쓰레기통을 가까운 순서대로 조회할 수 있다.")
+    void findNearest() {
+        //when
+        List<NearbyBin> result = binSpatialIndex.findNearest(null, LATITUDE, LONGITUDE, 300, 20);
+
+        //then
+        assertThat(result).extracting(nearbyBin -> nearbyBin.getBin().getId())
+                .containsExactly(1L, 3L, 2L);
+        assertThat(result).extracting(NearbyBin::getDistance)
+                .allMatch(distance -> distance <= 300);
+    }
+
+    @Test
+    @DisplayName("타입을 지정하면 해당 타입의 쓰레기통만 조회된다.")
+    void findNearest_withType() {
+        //when
+        List<NearbyBin> result = binSpatialIndex.findNearest(BinType.CIGAR, LATITUDE, LONGITUDE, 300, 20);
+
+        //then
+        assertThat(result).extracting(nearbyBin -> nearbyBin.getBin().getId())
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("조회 개수 제한을 넘는 쓰레기통은 제외된다.")
+    void findNearest_withLimit() {
+        //when
+        List<NearbyBin> result = binSpatialIndex.findNearest(null, LATITUDE, LONGITUDE, 2000, 2);
+
+        //then
+        assertThat(result).extracting(nearbyBin -> nearbyBin.getBin().getId())
+                .containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("반경 제한 없이 가까운 쓰레기통 N개를 조회할 수 있다.")
+    void findNearestNeighbors() {
+        //when
+        List<NearbyBin> result = binSpatialIndex.findNearestNeighbors(null, LATITUDE, LONGITUDE, 4, 2000);
+
+        //then
+        assertThat(result).extracting(nearbyBin -> nearbyBin.getBin().getId())
+                .containsExactly(1L, 3L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("최대 거리를 벗어난 쓰레기통은 개수가 부족해도 조회되지 않는다.")
+    void findNearestNeighbors_withMaxDistance() {
+        //when
+        List<NearbyBin> result = binSpatialIndex.findNearestNeighbors(null, LATITUDE, LONGITUDE, 10, 300);
+
+        //then
+        assertThat(result).extracting(nearbyBin -> nearbyBin.getBin().getId())
+                .containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("지도 영역 안의 쓰레기통만 조회할 수 있다.")
+    void findInBoundingBox() {
+        //given
+        BoundingBox boundingBox = new BoundingBox(37.494, 127.027, 37.496, 127.029);
+
+        //when
+        List<IndexedBin> result = binSpatialIndex.findInBoundingBox(null, boundingBox);
+
+        //then
+        assertThat(result).extracting(IndexedBin::getId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("인덱스가 비활성화 되어 있으면 적재 여부와 관계없이 사용할 수 없다.")
+    void isReady_disabled() {
+        //given
+        BinSpatialIndex disabledIndex = new BinSpatialIndex(null, false);
+
+        //when
+        disabledIndex.load(List.of());
+
+        //then
+        assertThat(disabledIndex.isReady()).isFalse();
+        assertThat(binSpatialIndex.isReady()).isTrue();
+    }
+}
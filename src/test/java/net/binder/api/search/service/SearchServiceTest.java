@@ -20,6 +20,7 @@ import net.binder.api.member.entity.Member;
 import net.binder.api.member.entity.Role;
 import net.binder.api.member.repository.MemberRepository;
 import net.binder.api.search.dto.SearchResult;
+import net.binder.api.search.dto.ViewportResponse;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -2343,4 +2344,41 @@ class SearchServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @DisplayName("넓은 지도 레벨의 영역 검색은 DB에서 격자별로 집계한 클러스터를 반환한다.")
+    @Test
+    void searchByViewport_clusters() {
+        //given
+        for (int i = 0; i < 5; i++) {
+            binRepository.save(new Bin("제주" + i, BinType.GENERAL, PointUtil.getPoint(126.5 + i * 0.0001, 33.4),
+                    "제주 주소", 0L, 0L, 0L, null, null));
+        }
+        entityManager.flush();
+
+        //when
+        ViewportResponse response = searchService.searchByViewport(null, 126.49, 33.39, 126.51, 33.41, 14);
+
+        //then
+        assertThat(response.getIsClustered()).isTrue();
+        assertThat(response.getClusters()).hasSize(1);
+        assertThat(response.getClusters().get(0).getCount()).isEqualTo(5);
+    }
+
+    @DisplayName("좁은 지도 레벨에서 넓은 영역을 요청하면 중심 주변으로 범위를 줄여 검색한다.")
+    @Test
+    void searchByViewport_limitSpan() {
+        //given
+        binRepository.save(new Bin("중심", BinType.GENERAL, PointUtil.getPoint(127.0, 37.0), "중심 주소", 0L, 0L, 0L,
+                null, null));
+        binRepository.save(new Bin("외곽", BinType.GENERAL, PointUtil.getPoint(127.5, 37.5), "외곽 주소", 0L, 0L, 0L,
+                null, null));
+        entityManager.flush();
+
+        //when
+        ViewportResponse response = searchService.searchByViewport(null, 126.0, 36.0, 128.0, 38.0, 1);
+
+        //then
+        assertThat(response.getIsClustered()).isFalse();
+        assertThat(response.getBins()).extracting("title").containsExactly("중심");
+    }
+
+}